@@ -265,6 +265,17 @@ public final class Constants {
     @Config
     public static final String MAVEN_PLUGIN_VALIDATION_EXCLUDES = "maven.plugin.validation.excludes";
 
+    /**
+     * User property for enabling the persistent plugin descriptor cache. When enabled, the descriptors read from
+     * the plugin JAR files of the local repository are stored in a binary form in the
+     * <code>.cache/maven-plugins</code> directory of the local repository, and reused by later builds as long as
+     * the JAR file is not modified.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_PLUGIN_PERSISTENT_DESCRIPTOR_CACHE = "maven.plugin.persistentDescriptorCache";
+
     /**
      * ProjectBuilder parallelism.
      *
@@ -281,5 +292,87 @@ public final class Constants {
     @Config(type = "java.lang.Boolean", defaultValue = "true")
     public static final String MAVEN_CONSUMER_POM = "maven.consumer.pom";
 
+    /**
+     * Scheduler used by the concurrent builder to find the build steps which are ready to be executed.
+     * Allowed values are <code>scan</code>, which rescans the whole build plan each time a step finishes, and
+     * <code>queue</code>, which tracks the number of unfinished predecessors of each step and directly schedules
+     * the successors becoming ready.
+     *
+     * @since 4.0.0
+     */
+    @Config(defaultValue = "scan")
+    public static final String MAVEN_BUILDER_SCHEDULER = "maven.builder.scheduler";
+
+    /**
+     * User property for enabling the critical path prioritisation of the concurrent builder. When enabled, the
+     * durations of the build steps are recorded and persisted across builds, and the ready steps with the longest
+     * remaining path through the build plan are executed first.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_CRITICAL_PATH = "maven.builder.criticalPath";
+
+    /**
+     * File used to persist the durations of the build steps when the critical path prioritisation is enabled.
+     *
+     * @since 4.0.0
+     */
+    @Config(defaultValue = "${project.build.directory}/build-durations.properties")
+    public static final String MAVEN_BUILDER_DURATIONS = "maven.builder.durations";
+
+    /**
+     * Output mode of the concurrent builder. Allowed values are <code>buffered</code>, where the messages logged
+     * while building a project are written when each build step completes, and <code>live</code>, where the
+     * messages are written immediately, prefixed with the artifact id of the project.
+     *
+     * @since 4.0.0
+     */
+    @Config(defaultValue = "buffered")
+    public static final String MAVEN_BUILDER_OUTPUT = "maven.builder.output";
+
+    /**
+     * Maximum number of messages kept in memory for each build step by the concurrent builder in
+     * <code>buffered</code> output mode, after which the messages are spilled to a temporary file.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "10000")
+    public static final String MAVEN_BUILDER_OUTPUT_BUFFER_SIZE = "maven.builder.output.bufferSize";
+
+    /**
+     * Strategy used to install the artifacts built in the reactor into the project local repository.
+     * Allowed values are <code>copy</code>, <code>hardlink</code>, <code>symlink</code> and <code>clone</code>
+     * (copy-on-write clone, on file systems supporting it). Strategies other than <code>copy</code> fall back
+     * to a copy when the link or clone can not be created.
+     *
+     * @since 4.0.0
+     */
+    @Config(defaultValue = "copy")
+    public static final String MAVEN_PROJECT_LOCAL_REPO_INSTALL_STRATEGY = "maven.projectLocalRepo.installStrategy";
+
+    /**
+     * User property for enabling the persistent model cache. When enabled, the models of the POMs read from
+     * the local repository, such as parents and imported BOMs, are stored in a binary form in the
+     * <code>.cache/maven-models</code> directory of the local repository, and reused by later builds as long as
+     * the POM is not modified.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_MODEL_BUILDER_PERSISTENT_CACHE = "maven.modelBuilder.persistentCache";
+
+    /**
+     * User property for enabling the persistent module information cache. When enabled, the module descriptors
+     * and automatic module names found in the JAR files resolved as dependencies are indexed in the
+     * <code>.cache/maven-modules</code> directory of the local repository, so that later builds do not need
+     * to open the JAR files again as long as they are not modified.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_DEPENDENCY_RESOLVER_PERSISTENT_MODULE_CACHE =
+            "maven.dependencyResolver.persistentModuleCache";
+
     private Constants() {}
 }
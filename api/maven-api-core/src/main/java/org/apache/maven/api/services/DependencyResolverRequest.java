@@ -23,6 +23,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apache.maven.api.Artifact;
@@ -329,7 +330,18 @@ public DependencyResolverRequestBuilder pathTypeFilter(@Nonnull Predicate<PathTy
          */
         @Nonnull
         public DependencyResolverRequestBuilder pathTypeFilter(@Nonnull Collection<? extends PathType> desiredTypes) {
-            return pathTypeFilter(desiredTypes::contains);
+            return pathTypeFilter(new PathTypeFilter(Set.copyOf(desiredTypes)));
+        }
+
+        /**
+         * A filter accepting the given types of paths. Equal filters are equal, so that the results of requests
+         * asking for the same types of paths can be cached.
+         */
+        private record PathTypeFilter(Set<? extends PathType> desiredTypes) implements Predicate<PathType> {
+            @Override
+            public boolean test(PathType pathType) {
+                return desiredTypes.contains(pathType);
+            }
         }
 
         @Nonnull
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.api.services.model;
 
+import org.apache.maven.api.Session;
 import org.apache.maven.api.annotations.Experimental;
 import org.apache.maven.api.annotations.Nonnull;
 
@@ -38,4 +39,13 @@ public interface ModelCacheFactory {
 
     @Nonnull
     ModelCache newInstance();
+
+    /**
+     * Creates a model cache for the given session, allowing the implementation to be configured
+     * through the session properties.
+     */
+    @Nonnull
+    default ModelCache newInstance(@Nonnull Session session) {
+        return newInstance();
+    }
 }
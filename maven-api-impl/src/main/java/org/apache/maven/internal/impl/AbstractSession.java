@@ -28,7 +28,6 @@
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
@@ -103,14 +102,12 @@ public abstract class AbstractSession implements InternalSession {
     protected final Lookup lookup;
     private final Map<Class<? extends Service>, Service> services = new ConcurrentHashMap<>();
     private final List<Listener> listeners = new CopyOnWriteArrayList<>();
-    private final Map<org.eclipse.aether.graph.DependencyNode, Node> allNodes =
-            Collections.synchronizedMap(new WeakHashMap<>());
-    private final Map<Class<? extends Artifact>, Map<org.eclipse.aether.artifact.Artifact, Artifact>> allArtifacts =
-            new ConcurrentHashMap<>();
-    private final Map<org.eclipse.aether.repository.RemoteRepository, RemoteRepository> allRepositories =
-            Collections.synchronizedMap(new WeakHashMap<>());
-    private final Map<org.eclipse.aether.graph.Dependency, Dependency> allDependencies =
-            Collections.synchronizedMap(new WeakHashMap<>());
+    private final WeakInterner<org.eclipse.aether.graph.DependencyNode, Node> allNodes = new WeakInterner<>();
+    private final Map<Class<? extends Artifact>, WeakInterner<org.eclipse.aether.artifact.Artifact, Artifact>>
+            allArtifacts = new ConcurrentHashMap<>();
+    private final WeakInterner<org.eclipse.aether.repository.RemoteRepository, RemoteRepository> allRepositories =
+            new WeakInterner<>();
+    private final WeakInterner<org.eclipse.aether.graph.Dependency, Dependency> allDependencies = new WeakInterner<>();
 
     public AbstractSession(
             RepositorySystemSession session,
@@ -148,8 +145,8 @@ public Artifact getArtifact(@Nonnull org.eclipse.aether.artifact.Artifact artifa
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Artifact> T getArtifact(Class<T> clazz, org.eclipse.aether.artifact.Artifact artifact) {
-        Map<org.eclipse.aether.artifact.Artifact, Artifact> map =
-                allArtifacts.computeIfAbsent(clazz, c -> Collections.synchronizedMap(new WeakHashMap<>()));
+        WeakInterner<org.eclipse.aether.artifact.Artifact, Artifact> map =
+                allArtifacts.computeIfAbsent(clazz, c -> new WeakInterner<>());
         if (clazz == Artifact.class) {
             return (T) map.computeIfAbsent(artifact, a -> new DefaultArtifact(this, a));
         } else if (clazz == DownloadedArtifact.class) {
@@ -22,13 +22,16 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.apache.maven.api.Artifact;
 import org.apache.maven.api.ArtifactCoordinates;
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Dependency;
 import org.apache.maven.api.DependencyCoordinates;
 import org.apache.maven.api.DependencyScope;
@@ -38,6 +41,7 @@
 import org.apache.maven.api.Project;
 import org.apache.maven.api.RemoteRepository;
 import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
@@ -56,6 +60,7 @@
 import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
 import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 
@@ -67,6 +72,31 @@
 @Singleton
 public class DefaultDependencyResolver implements DependencyResolver {
 
+    /**
+     * Module information of JAR files, shared by all resolutions.
+     */
+    private final PathModularizationIndex moduleIndex = new PathModularizationIndex(null);
+
+    /**
+     * Module information of JAR files persisted in local repositories, keyed by the index file.
+     */
+    private final Map<Path, PathModularizationIndex> persistentModuleIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * The dependency graphs collected during a session, by collect request. The graph does not depend on the
+     * path scope, so that all the scopes of a project are flattened from the same graph.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<CollectKey, DependencyResolverResult>> COLLECTED =
+            (SessionData.Key) SessionData.key(Map.class, CollectKey.class);
+
+    /**
+     * The results of the resolutions done during a session, by request.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<ResolveKey, DependencyResolverResult>> RESOLVED =
+            (SessionData.Key) SessionData.key(Map.class, ResolveKey.class);
+
     @Nonnull
     @Override
     public DependencyResolverResult collect(@Nonnull DependencyResolverRequest request)
@@ -103,8 +133,28 @@ public DependencyResolverResult collect(@Nonnull DependencyResolverRequest reque
                 .setManagedDependencies(session.toDependencies(managedDependencies, true))
                 .setRepositories(session.toRepositories(remoteRepositories));
 
+        CollectKey key = new CollectKey(
+                collectRequest.getRootArtifact(),
+                collectRequest.getRoot(),
+                collectRequest.getDependencies(),
+                collectRequest.getManagedDependencies(),
+                collectRequest.getRepositories(),
+                session.getSession().getLocalRepository(),
+                request.getVerbose());
+        Map<CollectKey, DependencyResolverResult> collected = getCache(session, COLLECTED);
+        DependencyResolverResult result = collected != null ? collected.get(key) : null;
+        if (result == null) {
+            result = collect(session, collectRequest, request.getVerbose());
+            if (collected != null && result.getExceptions().isEmpty()) {
+                collected.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    private DependencyResolverResult collect(InternalSession session, CollectRequest collectRequest, boolean verbose) {
         RepositorySystemSession systemSession = session.getSession();
-        if (request.getVerbose()) {
+        if (verbose) {
             systemSession = new DefaultRepositorySystemSession(systemSession)
                     .setConfigProperty(ConflictResolver.CONFIG_PROP_VERBOSE, true)
                     .setConfigProperty(DependencyManagerUtils.CONFIG_PROP_VERBOSE, true);
@@ -114,7 +164,7 @@ public DependencyResolverResult collect(@Nonnull DependencyResolverRequest reque
             final CollectResult result =
                     session.getRepositorySystem().collectDependencies(systemSession, collectRequest);
             return new DefaultDependencyResolverResult(
-                    null, result.getExceptions(), session.getNode(result.getRoot(), request.getVerbose()), 0);
+                    null, result.getExceptions(), session.getNode(result.getRoot(), verbose), 0);
         } catch (DependencyCollectionException e) {
             throw new DependencyResolverException("Unable to collect dependencies", e);
         }
@@ -141,6 +191,8 @@ private static DependencyFilter getScopeDependencyFilter(PathScope scope) {
 
     /**
      * Collects, flattens and resolves the dependencies.
+     * The results are cached for the duration of the session, unless they depend on reactor projects,
+     * and the dependency graph collected for a project is shared by the resolutions of all its path scopes.
      *
      * @param request the request to resolve
      * @return the result of the resolution
@@ -150,48 +202,129 @@ public DependencyResolverResult resolve(DependencyResolverRequest request)
             throws DependencyResolverException, DependencyResolverException, ArtifactResolverException {
         InternalSession session =
                 InternalSession.from(nonNull(request, "request").getSession());
-        DependencyResolverResult result;
         DependencyResolverResult collectorResult = collect(request);
+        if (request.getRequestType() == DependencyResolverRequest.RequestType.COLLECT) {
+            return collectorResult;
+        }
         List<RemoteRepository> repositories =
                 request.getRepositories() != null ? request.getRepositories() : session.getRemoteRepositories();
-        if (request.getRequestType() == DependencyResolverRequest.RequestType.COLLECT) {
-            result = collectorResult;
-        } else {
-            List<Node> nodes = flatten(session, collectorResult.getRoot(), request.getPathScope());
-            List<ArtifactCoordinates> coordinates = nodes.stream()
-                    .map(Node::getDependency)
-                    .filter(Objects::nonNull)
-                    .map(Artifact::toCoordinates)
-                    .collect(Collectors.toList());
-            Predicate<PathType> filter = request.getPathTypeFilter();
-            if (request.getRequestType() == DependencyResolverRequest.RequestType.FLATTEN) {
-                DefaultDependencyResolverResult flattenResult = new DefaultDependencyResolverResult(
-                        null, collectorResult.getExceptions(), collectorResult.getRoot(), nodes.size());
-                for (Node node : nodes) {
-                    flattenResult.addNode(node);
-                }
-                result = flattenResult;
-            } else {
-                PathModularizationCache cache = new PathModularizationCache(); // TODO: should be project-wide cache.
-                DefaultDependencyResolverResult resolverResult = new DefaultDependencyResolverResult(
-                        cache, collectorResult.getExceptions(), collectorResult.getRoot(), nodes.size());
-                ArtifactResolverResult artifactResolverResult =
-                        session.getService(ArtifactResolver.class).resolve(session, coordinates, repositories);
-                for (Node node : nodes) {
-                    Dependency d = node.getDependency();
-                    Path path = (d != null) ? artifactResolverResult.getPath(d) : null;
-                    try {
-                        resolverResult.addDependency(node, d, filter, path);
-                    } catch (IOException e) {
-                        throw cannotReadModuleInfo(path, e);
-                    }
-                }
-                result = resolverResult;
+        Map<ResolveKey, DependencyResolverResult> resolved = getCache(session, RESOLVED);
+        ResolveKey key = new ResolveKey(
+                collectorResult.getRoot(),
+                request.getRequestType(),
+                request.getPathScope(),
+                request.getPathTypeFilter(),
+                repositories);
+        DependencyResolverResult result = resolved != null ? resolved.get(key) : null;
+        if (result == null) {
+            result = resolve(session, request, collectorResult, repositories);
+            if (resolved != null && isReusable(session, result)) {
+                resolved.put(key, result);
             }
         }
         return result;
     }
 
+    /**
+     * Whether a resolution can be reused for the rest of the session. The path of a reactor project changes
+     * while the reactor is built, for example from its output directory to its packaged JAR, so resolutions
+     * with paths outside the local repository are not reused.
+     */
+    private static boolean isReusable(InternalSession session, DependencyResolverResult result) {
+        if (!result.getExceptions().isEmpty()) {
+            return false;
+        }
+        Path localRepository =
+                session.getLocalRepository().getPath().toAbsolutePath().normalize();
+        for (Path path : result.getPaths()) {
+            if (!path.toAbsolutePath().normalize().startsWith(localRepository)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private DependencyResolverResult resolve(
+            InternalSession session,
+            DependencyResolverRequest request,
+            DependencyResolverResult collectorResult,
+            List<RemoteRepository> repositories) {
+        List<Node> nodes = flatten(session, collectorResult.getRoot(), request.getPathScope());
+        List<ArtifactCoordinates> coordinates = nodes.stream()
+                .map(Node::getDependency)
+                .filter(Objects::nonNull)
+                .map(Artifact::toCoordinates)
+                .collect(Collectors.toList());
+        Predicate<PathType> filter = request.getPathTypeFilter();
+        if (request.getRequestType() == DependencyResolverRequest.RequestType.FLATTEN) {
+            DefaultDependencyResolverResult flattenResult = new DefaultDependencyResolverResult(
+                    null, collectorResult.getExceptions(), collectorResult.getRoot(), nodes.size());
+            for (Node node : nodes) {
+                flattenResult.addNode(node);
+            }
+            return flattenResult;
+        }
+        PathModularizationIndex index = getModuleIndex(session);
+        PathModularizationCache cache = new PathModularizationCache(index);
+        DefaultDependencyResolverResult resolverResult = new DefaultDependencyResolverResult(
+                cache, collectorResult.getExceptions(), collectorResult.getRoot(), nodes.size());
+        ArtifactResolverResult artifactResolverResult =
+                session.getService(ArtifactResolver.class).resolve(session, coordinates, repositories);
+        for (Node node : nodes) {
+            Dependency d = node.getDependency();
+            Path path = (d != null) ? artifactResolverResult.getPath(d) : null;
+            try {
+                resolverResult.addDependency(node, d, filter, path);
+            } catch (IOException e) {
+                throw cannotReadModuleInfo(path, e);
+            }
+        }
+        index.save();
+        return resolverResult;
+    }
+
+    private static <K> Map<K, DependencyResolverResult> getCache(
+            Session session, SessionData.Key<Map<K, DependencyResolverResult>> key) {
+        SessionData data = session.getData();
+        return data != null ? data.computeIfAbsent(key, ConcurrentHashMap::new) : null;
+    }
+
+    /**
+     * The inputs of a dependency collection.
+     */
+    record CollectKey(
+            org.eclipse.aether.artifact.Artifact rootArtifact,
+            org.eclipse.aether.graph.Dependency root,
+            List<org.eclipse.aether.graph.Dependency> dependencies,
+            List<org.eclipse.aether.graph.Dependency> managedDependencies,
+            List<org.eclipse.aether.repository.RemoteRepository> repositories,
+            LocalRepository localRepository,
+            boolean verbose) {}
+
+    /**
+     * The inputs of a resolution, given the root node of the collected dependency graph.
+     * The root node is compared by identity, as it is shared by the resolutions of a same collection.
+     */
+    record ResolveKey(
+            Node root,
+            DependencyResolverRequest.RequestType requestType,
+            PathScope pathScope,
+            Predicate<PathType> pathTypeFilter,
+            List<RemoteRepository> repositories) {}
+
+    private PathModularizationIndex getModuleIndex(Session session) {
+        if (Boolean.parseBoolean(
+                session.getUserProperties().get(Constants.MAVEN_DEPENDENCY_RESOLVER_PERSISTENT_MODULE_CACHE))) {
+            Path file = session.getLocalRepository()
+                    .getPath()
+                    .resolve(PathModularizationIndex.CACHE_FILE)
+                    .toAbsolutePath()
+                    .normalize();
+            return persistentModuleIndexes.computeIfAbsent(file, PathModularizationIndex::new);
+        }
+        return moduleIndex;
+    }
+
     private static DependencyResolverException cannotReadModuleInfo(final Path path, final IOException cause) {
         return new DependencyResolverException("Cannot read module information of " + path, cause);
     }
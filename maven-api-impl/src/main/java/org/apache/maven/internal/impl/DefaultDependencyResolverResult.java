@@ -82,6 +82,18 @@ class DefaultDependencyResolverResult implements DependencyResolverResult {
      */
     private final Map<Dependency, Path> dependencies;
 
+    /**
+     * Unmodifiable views of the above collections, returned to the callers as results are shared
+     * for the duration of a session. The lists of paths of {@link #dispatchedPaths} are wrapped too.
+     */
+    private final List<Node> nodesView;
+
+    private final List<Path> pathsView;
+
+    private final Map<PathType, List<Path>> dispatchedPathsView;
+
+    private final Map<Dependency, Path> dependenciesView;
+
     /**
      * Information about modules in the main output. This field is initially null and is set to a non-null
      * value when the output directories have been set, or when it is too late for setting them.
@@ -104,12 +116,16 @@ class DefaultDependencyResolverResult implements DependencyResolverResult {
      */
     DefaultDependencyResolverResult(PathModularizationCache cache, List<Exception> exceptions, Node root, int count) {
         this.cache = cache;
-        this.exceptions = exceptions;
+        this.exceptions = Collections.unmodifiableList(exceptions);
         this.root = root;
         nodes = new ArrayList<>(count);
         paths = new ArrayList<>(count);
         dispatchedPaths = new LinkedHashMap<>();
         dependencies = new LinkedHashMap<>(count + count / 3);
+        nodesView = Collections.unmodifiableList(nodes);
+        pathsView = Collections.unmodifiableList(paths);
+        dispatchedPathsView = new LinkedHashMap<>();
+        dependenciesView = Collections.unmodifiableMap(dependencies);
     }
 
     /**
@@ -119,7 +135,13 @@ class DefaultDependencyResolverResult implements DependencyResolverResult {
      * @param path the path element to add
      */
     private void addPathElement(PathType type, Path path) {
-        dispatchedPaths.computeIfAbsent(type, (t) -> new ArrayList<>()).add(path);
+        dispatchedPaths
+                .computeIfAbsent(type, (t) -> {
+                    List<Path> list = new ArrayList<>();
+                    dispatchedPathsView.put(t, Collections.unmodifiableList(list));
+                    return list;
+                })
+                .add(path);
     }
 
     /**
@@ -344,22 +366,22 @@ public Node getRoot() {
 
     @Override
     public List<Node> getNodes() {
-        return nodes;
+        return nodesView;
     }
 
     @Override
     public List<Path> getPaths() {
-        return paths;
+        return pathsView;
     }
 
     @Override
     public Map<PathType, List<Path>> getDispatchedPaths() {
-        return dispatchedPaths;
+        return Collections.unmodifiableMap(dispatchedPathsView);
     }
 
     @Override
     public Map<Dependency, Path> getDependencies() {
-        return dependencies;
+        return dependenciesView;
     }
 
     @Override
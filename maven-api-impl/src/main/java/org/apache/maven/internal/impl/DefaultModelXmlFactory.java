@@ -65,6 +65,8 @@ public Model read(@Nonnull XmlReaderRequest request) throws XmlReaderException {
             }
             MavenStaxReader xml = new MavenStaxReader();
             xml.setAddDefaultEntities(request.isAddDefaultEntities());
+            // the models of a build repeat the same coordinates, scopes and plugin keys many times
+            xml.setInternStrings(true);
             if (inputStream != null) {
                 return xml.read(inputStream, request.isStrict(), source);
             } else if (reader != null) {
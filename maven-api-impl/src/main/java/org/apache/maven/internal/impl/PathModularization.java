@@ -100,6 +100,20 @@ private PathModularization() {
         isModuleHierarchy = false;
     }
 
+    /**
+     * Creates module information for a JAR file from a descriptor previously read.
+     *
+     * @param path the JAR file
+     * @param descriptor the {@link ModuleDescriptor}, the automatic module name, or {@code null} if none
+     *
+     * @see PathModularizationIndex
+     */
+    PathModularization(Path path, Object descriptor) {
+        filename = path.getFileName().toString();
+        descriptors = (descriptor != null) ? Collections.singletonMap(path, descriptor) : Collections.emptyMap();
+        isModuleHierarchy = false;
+    }
+
     /**
      * Finds module information in the given JAR file, output directory, or test output directory.
      * If no module is found, or if module information cannot be extracted, then this constructor
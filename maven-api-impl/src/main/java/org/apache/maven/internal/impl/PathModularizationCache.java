@@ -19,14 +19,15 @@
 package org.apache.maven.internal.impl;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apache.maven.api.JavaPathType;
@@ -37,6 +38,10 @@
  * The cache is used for avoiding the need to reopen the same files many times when the
  * same dependency is used for different scope. For example a path used for compilation
  * is typically also used for tests.
+ *
+ * <p>Module information of JAR files is delegated to a {@link PathModularizationIndex}
+ * shared by all caches, while output directories, which may change during the build,
+ * are only cached by this instance.</p>
  */
 class PathModularizationCache {
     /**
@@ -55,12 +60,27 @@ class PathModularizationCache {
      */
     private final Map<Path, PathType> pathTypes;
 
+    /**
+     * The index of module information for JAR files, or {@code null} if none.
+     */
+    private final PathModularizationIndex index;
+
     /**
      * Creates an initially empty cache.
      */
     PathModularizationCache() {
-        moduleInfo = new HashMap<>();
-        pathTypes = new HashMap<>();
+        this(null);
+    }
+
+    /**
+     * Creates an initially empty cache delegating to the given index for JAR files.
+     *
+     * @param index the index of module information for JAR files, or {@code null} if none
+     */
+    PathModularizationCache(PathModularizationIndex index) {
+        this.index = index;
+        moduleInfo = new ConcurrentHashMap<>();
+        pathTypes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -70,7 +90,11 @@ class PathModularizationCache {
     PathModularization getModuleInfo(Path path) throws IOException {
         PathModularization info = moduleInfo.get(path);
         if (info == null) {
-            info = new PathModularization(path, true);
+            if (index != null && Files.isRegularFile(path)) {
+                info = index.getModuleInfo(path);
+            } else {
+                info = new PathModularization(path, true);
+            }
             moduleInfo.put(path, info);
             pathTypes.put(path, info.getPathType());
         }
@@ -85,6 +109,9 @@ PathModularization getModuleInfo(Path path) throws IOException {
     private PathType getPathType(Path path) throws IOException {
         PathType type = pathTypes.get(path);
         if (type == null) {
+            if (index != null && Files.isRegularFile(path)) {
+                return getModuleInfo(path).getPathType();
+            }
             type = new PathModularization(path, false).getPathType();
             pathTypes.put(path, type);
         }
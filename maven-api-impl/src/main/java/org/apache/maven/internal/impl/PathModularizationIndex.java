@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide index of the module information found in JAR files.
+ * Entries are keyed by the path of the JAR file and are only used if the size and the last
+ * modification time of the file did not change. The index can optionally be backed by a file,
+ * in which case it is loaded when first used and saved by {@link #save()} when new entries
+ * have been added, so that later builds do not need to open the JAR files again.
+ *
+ * <p>Only the raw content of the {@code module-info.class} entry or the value of the
+ * {@code Automatic-Module-Name} manifest attribute are stored. Module descriptors are
+ * decoded from those bytes when first requested.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+class PathModularizationIndex {
+    /**
+     * Path, relative to the local repository, of the file backing persistent indexes.
+     */
+    static final String CACHE_FILE = ".cache/maven-modules/index.bin";
+
+    private static final int MAGIC = 0x4D4D4931; // MMI1
+
+    private static final byte NONE = 0;
+    private static final byte AUTOMATIC = 1;
+    private static final byte DESCRIPTOR = 2;
+
+    /**
+     * Name of the module descriptor entry in JAR files.
+     */
+    private static final String MODULE_INFO = "module-info.class";
+
+    /**
+     * The attribute for automatic module name in {@code META-INF/MANIFEST.MF} files.
+     */
+    private static final Attributes.Name AUTO_MODULE_NAME = new Attributes.Name("Automatic-Module-Name");
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * The file backing this index, or {@code null} if the index is kept in memory only.
+     */
+    private final Path file;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+    private volatile boolean dirty;
+
+    /**
+     * Creates an index.
+     *
+     * @param file the file backing this index, or {@code null} for an index kept in memory only
+     */
+    PathModularizationIndex(Path file) {
+        this.file = file;
+        this.loaded = file == null;
+    }
+
+    /**
+     * Gets module information for the given JAR file.
+     * The JAR file is only opened if it was not indexed yet or if it changed since it was indexed.
+     *
+     * @param path the JAR file
+     * @return module information for the given JAR file
+     * @throws IOException if an error occurred while reading the JAR file or the module descriptor
+     */
+    PathModularization getModuleInfo(Path path) throws IOException {
+        load();
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        Entry entry = entries.get(path);
+        if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+            entry = read(path, size, lastModified);
+            entries.put(path, entry);
+            dirty = true;
+        }
+        return entry.getModuleInfo(path);
+    }
+
+    /**
+     * Saves this index to its backing file if new entries have been added since it was loaded.
+     * Failures are logged and otherwise ignored, as the index can always be rebuilt.
+     */
+    void save() {
+        if (file == null || !dirty) {
+            return;
+        }
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            try {
+                Files.createDirectories(file.getParent());
+                Path tmp = Files.createTempFile(file.getParent(), "index", ".tmp");
+                try {
+                    try (DataOutputStream dos =
+                            new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                        dos.writeInt(MAGIC);
+                        Map<Path, Entry> snapshot = Map.copyOf(entries);
+                        dos.writeInt(snapshot.size());
+                        for (Map.Entry<Path, Entry> e : snapshot.entrySet()) {
+                            dos.writeUTF(e.getKey().toString());
+                            e.getValue().write(dos);
+                        }
+                    }
+                    try {
+                        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } catch (IOException e) {
+                logger.debug("Unable to save module information index {}", file, e);
+            }
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (Files.isRegularFile(file)) {
+                try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    if (dis.readInt() == MAGIC) {
+                        int count = dis.readInt();
+                        for (int i = 0; i < count; i++) {
+                            Path path = Paths.get(dis.readUTF());
+                            entries.putIfAbsent(path, Entry.read(dis));
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.debug("Unable to read module information index {}", file, e);
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    /**
+     * Reads the module information of the given JAR file. The lookup rules are the same
+     * as the ones of {@link PathModularization#PathModularization(Path, boolean)}.
+     */
+    private static Entry read(Path path, long size, long lastModified) throws IOException {
+        try (JarFile jar = new JarFile(path.toFile())) {
+            ZipEntry entry = jar.getEntry(MODULE_INFO);
+            if (entry != null) {
+                try (InputStream in = jar.getInputStream(entry)) {
+                    return new Entry(size, lastModified, DESCRIPTOR, in.readAllBytes(), null);
+                }
+            }
+            Manifest mf = jar.getManifest();
+            if (mf != null) {
+                Object name = mf.getMainAttributes().get(AUTO_MODULE_NAME);
+                if (name instanceof String) {
+                    return new Entry(size, lastModified, AUTOMATIC, null, (String) name);
+                }
+            }
+        }
+        return new Entry(size, lastModified, NONE, null, null);
+    }
+
+    /**
+     * An entry of the index. The module information is created lazily.
+     */
+    private static final class Entry {
+        final long size;
+        final long lastModified;
+        final byte kind;
+        final byte[] moduleInfo;
+        final String automaticName;
+        volatile PathModularization info;
+
+        Entry(long size, long lastModified, byte kind, byte[] moduleInfo, String automaticName) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.kind = kind;
+            this.moduleInfo = moduleInfo;
+            this.automaticName = automaticName;
+        }
+
+        PathModularization getModuleInfo(Path path) {
+            PathModularization result = info;
+            if (result == null) {
+                Object descriptor =
+                        switch (kind) {
+                            case DESCRIPTOR -> ModuleDescriptor.read(ByteBuffer.wrap(moduleInfo));
+                            case AUTOMATIC -> automaticName;
+                            default -> null;
+                        };
+                result = new PathModularization(path, descriptor);
+                info = result;
+            }
+            return result;
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeLong(size);
+            dos.writeLong(lastModified);
+            dos.writeByte(kind);
+            if (kind == DESCRIPTOR) {
+                dos.writeInt(moduleInfo.length);
+                dos.write(moduleInfo);
+            } else if (kind == AUTOMATIC) {
+                dos.writeUTF(automaticName);
+            }
+        }
+
+        static Entry read(DataInputStream dis) throws IOException {
+            long size = dis.readLong();
+            long lastModified = dis.readLong();
+            byte kind = dis.readByte();
+            byte[] moduleInfo = null;
+            String automaticName = null;
+            if (kind == DESCRIPTOR) {
+                moduleInfo = new byte[dis.readInt()];
+                dis.readFully(moduleInfo);
+            } else if (kind == AUTOMATIC) {
+                automaticName = dis.readUTF();
+            } else if (kind != NONE) {
+                throw new IOException("Invalid entry kind " + kind);
+            }
+            return new Entry(size, lastModified, kind, moduleInfo, automaticName);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent map with weak keys, used to associate a single API wrapper to each resolver object.
+ * <p>
+ * Like {@link java.util.WeakHashMap}, keys are compared using {@link Object#equals(Object)} and
+ * entries are removed once their key has been garbage collected. Unlike a synchronized
+ * {@code WeakHashMap}, lookups do not acquire any lock, and the creation of a new value only
+ * locks the bin of the underlying {@link ConcurrentHashMap}. Stale entries are expunged from
+ * a reference queue on each insertion.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+class WeakInterner<K, V> {
+
+    private final ConcurrentHashMap<WeakKey<K>, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the value associated to the given key, creating it with the given function if needed.
+     * The function is invoked at most once per key, even under concurrent access.
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        Objects.requireNonNull(key, "key");
+        V value = map.get(new WeakKey<>(key, null));
+        if (value == null) {
+            expunge();
+            value = map.computeIfAbsent(new WeakKey<>(key, queue), k -> function.apply(key));
+        }
+        return value;
+    }
+
+    /**
+     * {@return the number of entries}, including entries whose key has been collected but not yet expunged.
+     */
+    int size() {
+        return map.size();
+    }
+
+    private void expunge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            map.remove(ref);
+        }
+    }
+
+    /**
+     * A weak reference to a key, with the hash code of the key computed once.
+     * Two references are equal if they are the same reference or if their keys are equal.
+     */
+    private static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        WeakKey(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof WeakKey<?> other && hash == other.hash) {
+                Object key = get();
+                return key != null && key.equals(other.get());
+            }
+            return false;
+        }
+    }
+}
@@ -122,7 +122,7 @@ public class DefaultModelBuilder implements ModelBuilder {
 
     public static final String NAMESPACE_PREFIX = "http://maven.apache.org/POM/";
     private static final String RAW = "raw";
-    private static final String FILE = "file";
+    static final String FILE = "file";
     private static final String IMPORT = "import";
     private static final String PARENT = "parent";
 
@@ -650,8 +650,14 @@ public Result<? extends Model> buildRawModel(
     Model readFileModel(ModelBuilderRequest request, DefaultModelProblemCollector problems)
             throws ModelBuilderException {
         ModelSource modelSource = request.getSource();
-        Model model =
-                cache(getModelCache(request), modelSource, FILE, () -> doReadFileModel(modelSource, request, problems));
+        Callable<Model> reader = () -> doReadFileModel(modelSource, request, problems);
+        Model model = getModelCache(request)
+                .computeIfAbsent(
+                        modelSource,
+                        FILE,
+                        transformers.isEmpty()
+                                ? new FileModelReader(request.getValidationLevel(), problems, reader)
+                                : asSupplier(reader));
 
         if (modelSource.getPath() != null) {
             if (getTransformerContextBuilder(request) instanceof DefaultModelTransformerContextBuilder contextBuilder) {
@@ -1532,6 +1538,44 @@ private static <T> Supplier<T> asSupplier(Callable<T> supplier) {
         };
     }
 
+    /**
+     * Reads a file model, and tells whether the model only depends on the POM and the validation level, so that
+     * a persistent cache can reuse it in later builds.
+     */
+    static final class FileModelReader implements Supplier<Model> {
+        private final int validationLevel;
+        private final DefaultModelProblemCollector problems;
+        private final Callable<Model> reader;
+        private volatile boolean reusable;
+
+        FileModelReader(int validationLevel, DefaultModelProblemCollector problems, Callable<Model> reader) {
+            this.validationLevel = validationLevel;
+            this.problems = problems;
+            this.reader = reader;
+        }
+
+        int getValidationLevel() {
+            return validationLevel;
+        }
+
+        /**
+         * Whether the model read can be reused: no problem was reported while reading it, as they would
+         * not be reported again, and the model is a 4.0.0 one, so that its parent and subprojects were not
+         * inferred from other files.
+         */
+        boolean isReusable() {
+            return reusable;
+        }
+
+        @Override
+        public Model get() {
+            int count = problems.getProblems().size();
+            Model model = asSupplier(reader).get();
+            reusable = problems.getProblems().size() == count && MODEL_VERSION_4_0_0.equals(model.getModelVersion());
+            return model;
+        }
+    }
+
     static <T extends Throwable> void uncheckedThrow(Throwable t) throws T {
         throw (T) t; // rely on vacuous cast
     }
@@ -1578,7 +1622,8 @@ ModelProcessor getModelProcessor() {
     private ModelCache getModelCache(ModelBuilderRequest request) {
         return request.getSession()
                 .getData()
-                .computeIfAbsent(SessionData.key(ModelCache.class), modelCacheFactory::newInstance);
+                .computeIfAbsent(
+                        SessionData.key(ModelCache.class), () -> modelCacheFactory.newInstance(request.getSession()));
     }
 
     private static ModelBuildingListener getModelBuildingListener(ModelBuilderRequest request) {
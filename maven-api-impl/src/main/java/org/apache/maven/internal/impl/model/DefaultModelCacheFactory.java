@@ -18,6 +18,8 @@
  */
 package org.apache.maven.internal.impl.model;
 
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.Session;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.services.model.ModelCache;
@@ -30,4 +32,12 @@ public class DefaultModelCacheFactory implements ModelCacheFactory {
     public ModelCache newInstance() {
         return new DefaultModelCache();
     }
+
+    @Override
+    public ModelCache newInstance(Session session) {
+        if (Boolean.parseBoolean(session.getUserProperties().get(Constants.MAVEN_MODEL_BUILDER_PERSISTENT_CACHE))) {
+            return new PersistentModelCache(session.getLocalRepository().getPath());
+        }
+        return newInstance();
+    }
 }
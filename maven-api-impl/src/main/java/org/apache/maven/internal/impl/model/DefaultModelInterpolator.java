@@ -43,9 +43,11 @@
 import org.apache.maven.api.services.model.PathTranslator;
 import org.apache.maven.api.services.model.RootLocator;
 import org.apache.maven.api.services.model.UrlNormalizer;
+import org.apache.maven.model.v4.MavenAccessor;
 import org.apache.maven.model.v4.MavenTransformer;
 import org.codehaus.plexus.interpolation.AbstractDelegatingValueSource;
 import org.codehaus.plexus.interpolation.AbstractValueSource;
+import org.codehaus.plexus.interpolation.InterpolationCycleException;
 import org.codehaus.plexus.interpolation.InterpolationException;
 import org.codehaus.plexus.interpolation.InterpolationPostProcessor;
 import org.codehaus.plexus.interpolation.MapBasedValueSource;
@@ -91,6 +93,7 @@ public class DefaultModelInterpolator implements ModelInterpolator {
     private final PathTranslator pathTranslator;
     private final UrlNormalizer urlNormalizer;
     private final RootLocator rootLocator;
+    private final boolean customValueSources = overridesCreateValueSources(getClass());
 
     @Inject
     public DefaultModelInterpolator(
@@ -100,6 +103,23 @@ public DefaultModelInterpolator(
         this.rootLocator = rootLocator;
     }
 
+    private static boolean overridesCreateValueSources(Class<?> clazz) {
+        for (Class<?> c = clazz; c != DefaultModelInterpolator.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(
+                        "createValueSources",
+                        Model.class,
+                        Path.class,
+                        ModelBuilderRequest.class,
+                        ModelProblemCollector.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // look in the superclass
+            }
+        }
+        return false;
+    }
+
     interface InnerInterpolator {
         String interpolate(String value);
     }
@@ -107,10 +127,15 @@ interface InnerInterpolator {
     @Override
     public Model interpolateModel(
             Model model, Path projectDir, ModelBuilderRequest request, ModelProblemCollector problems) {
-        List<? extends ValueSource> valueSources = createValueSources(model, projectDir, request, problems);
         List<? extends InterpolationPostProcessor> postProcessors = createPostProcessors(model, projectDir, request);
 
-        InnerInterpolator innerInterpolator = createInterpolator(valueSources, postProcessors, request, problems);
+        InnerInterpolator innerInterpolator;
+        if (customValueSources) {
+            List<? extends ValueSource> valueSources = createValueSources(model, projectDir, request, problems);
+            innerInterpolator = createInterpolator(valueSources, postProcessors, request, problems);
+        } else {
+            innerInterpolator = new ModelInterpolation(model, projectDir, request, problems, postProcessors);
+        }
 
         return new MavenTransformer(innerInterpolator::interpolate).visit(model);
     }
@@ -153,6 +178,10 @@ protected List<String> getProjectPrefixes(ModelBuilderRequest request) {
                 : PROJECT_PREFIXES_3_1;
     }
 
+    /**
+     * Creates the value sources, in lookup order. The default value sources resolve the same expressions as the
+     * lookups of {@link ModelInterpolation}, which are used instead unless this method is overridden.
+     */
     protected List<ValueSource> createValueSources(
             Model model, Path projectDir, ModelBuilderRequest request, ModelProblemCollector problems) {
         Map<String, String> modelProperties = model.getProperties();
@@ -270,6 +299,314 @@ protected RecursionInterceptor createRecursionInterceptor(ModelBuilderRequest re
         return new PrefixAwareRecursionInterceptor(getProjectPrefixes(request));
     }
 
+    /**
+     * Interpolates the strings of a single model. Expressions are looked up, in order, in:
+     * <ul>
+     * <li>{@code basedir}, {@code baseUri} and the build timestamp, when the project directory is known</li>
+     * <li>{@code rootDirectory}</li>
+     * <li>the model itself, for expressions starting with one of the project prefixes</li>
+     * <li>the user properties, the model properties, the system properties and the environment variables</li>
+     * <li>the model itself, for unprefixed expressions</li>
+     * </ul>
+     * Model fields are read with the generated {@link MavenAccessor}, other properties fall back to reflection.
+     * The results of the lookups and of the interpolated strings are cached for the model.
+     */
+    class ModelInterpolation implements InnerInterpolator {
+        private final Model model;
+        private final Path projectDir;
+        private final ModelBuilderRequest request;
+        private final Map<String, String> userProperties;
+        private final Map<String, String> modelProperties;
+        private final Map<String, String> systemProperties;
+        private final ModelProblemCollector problems;
+        private final List<? extends InterpolationPostProcessor> postProcessors;
+        private final List<String> prefixes;
+        private final boolean detectDeprecatedExpressions;
+
+        private final Map<String, String> cache = new HashMap<>();
+        private final Map<String, Lookup> lookups = new HashMap<>();
+        private final Set<String> unresolvable = new HashSet<>();
+        private final RecursionInterceptor recursionInterceptor;
+        private String buildTimestamp;
+
+        ModelInterpolation(
+                Model model,
+                Path projectDir,
+                ModelBuilderRequest request,
+                ModelProblemCollector problems,
+                List<? extends InterpolationPostProcessor> postProcessors) {
+            this.model = model;
+            this.projectDir = projectDir;
+            this.request = request;
+            this.userProperties = request.getUserProperties();
+            this.modelProperties = model.getProperties();
+            this.systemProperties = request.getSystemProperties();
+            this.problems = problems;
+            this.postProcessors = postProcessors;
+            this.prefixes = getProjectPrefixes(request);
+            this.recursionInterceptor = createRecursionInterceptor(request);
+            this.detectDeprecatedExpressions =
+                    request.getValidationLevel() < ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0
+                            && request.getValidationLevel() >= ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_2_0;
+        }
+
+        @Override
+        public String interpolate(String value) {
+            if (value != null && value.contains("${")) {
+                String c = cache.get(value);
+                if (c == null) {
+                    try {
+                        unresolvable.clear();
+                        c = doInterpolate(value);
+                    } catch (InterpolationException e) {
+                        problems.add(BuilderProblem.Severity.ERROR, ModelProblem.Version.BASE, e.getMessage(), e);
+                    }
+                    cache.put(value, c);
+                }
+                return c;
+            }
+            return value;
+        }
+
+        private String doInterpolate(String input) throws InterpolationException {
+            int startIdx = input.indexOf("${");
+            if (startIdx < 0) {
+                return input;
+            }
+            int endIdx = -1;
+            StringBuilder result = new StringBuilder(input.length() * 2);
+            do {
+                result.append(input, endIdx + 1, startIdx);
+                endIdx = input.indexOf('}', startIdx + 1);
+                if (endIdx < 0) {
+                    break;
+                }
+
+                String wholeExpr = input.substring(startIdx, endIdx + 1);
+                String realExpr = wholeExpr.substring(2, wholeExpr.length() - 1);
+                boolean resolved = false;
+                if (!unresolvable.contains(wholeExpr)) {
+                    if (realExpr.startsWith(".")) {
+                        realExpr = realExpr.substring(1);
+                    }
+                    if (recursionInterceptor.hasRecursiveExpression(realExpr)) {
+                        throw new InterpolationCycleException(recursionInterceptor, realExpr, wholeExpr);
+                    }
+                    recursionInterceptor.expressionResolutionStarted(realExpr);
+                    try {
+                        Object value = lookup(realExpr, wholeExpr);
+                        if (value != null) {
+                            value = doInterpolate(String.valueOf(value));
+                            for (InterpolationPostProcessor postProcessor : postProcessors) {
+                                Object newVal = postProcessor.execute(realExpr, value);
+                                if (newVal != null) {
+                                    value = newVal;
+                                    break;
+                                }
+                            }
+                            if (startIdx == 0 && endIdx == input.length() - 1) {
+                                // the whole input is a single expression
+                                return String.valueOf(value);
+                            }
+                            result.append(value);
+                            resolved = true;
+                        } else {
+                            unresolvable.add(wholeExpr);
+                        }
+                    } finally {
+                        recursionInterceptor.expressionResolutionFinished(realExpr);
+                    }
+                }
+                if (!resolved) {
+                    result.append(wholeExpr);
+                }
+            } while ((startIdx = input.indexOf("${", endIdx + 1)) > -1);
+
+            if (endIdx == -1 && startIdx > -1) {
+                result.append(input, startIdx, input.length());
+            } else if (endIdx < input.length()) {
+                result.append(input, endIdx + 1, input.length());
+            }
+            return result.toString();
+        }
+
+        private Object lookup(String realExpr, String wholeExpr) throws InterpolationException {
+            Lookup lookup = lookups.get(wholeExpr);
+            if (lookup == null) {
+                lookup = new Lookup(wholeExpr);
+                find(realExpr, lookup);
+                lookups.put(wholeExpr, lookup);
+                // the warnings are reported once per model
+                if (lookup.warnings != null) {
+                    for (String warning : lookup.warnings) {
+                        problems.add(BuilderProblem.Severity.WARNING, ModelProblem.Version.V20, warning);
+                    }
+                }
+            }
+            if (lookup.value == null && lookup.bestAnswer != null) {
+                // the simplest recursion check, for values containing the expression itself
+                throw new InterpolationCycleException(recursionInterceptor, realExpr, wholeExpr);
+            }
+            return lookup.value;
+        }
+
+        // NOTE: Order counts here!
+        private void find(String expression, Lookup lookup) {
+            if (projectDir != null) {
+                if (lookup.offer(getBasedirValue(expression))
+                        || lookup.offer(getBaseUriValue(expression))
+                        || lookup.offer(getBuildTimestampValue(expression))) {
+                    return;
+                }
+            }
+            if (lookup.offer(getRootDirectoryValue(expression))) {
+                return;
+            }
+            String projectExpression = ValueSourceUtils.trimPrefix(expression, prefixes, false);
+            if (projectExpression != null) {
+                Object value = getModelValue(projectExpression);
+                if (value != null && detectDeprecatedExpressions && expression.startsWith(PREFIX_POM)) {
+                    lookup.warn(deprecationWarning(expression, PREFIX_POM));
+                }
+                if (lookup.offer(value)) {
+                    return;
+                }
+            }
+            if (lookup.offer(userProperties.get(expression))
+                    || lookup.offer(modelProperties.get(expression))
+                    || lookup.offer(systemProperties.get(expression))
+                    || lookup.offer(systemProperties.get("env." + expression))) {
+                return;
+            }
+            Object value = getModelValue(expression);
+            if (value != null && detectDeprecatedExpressions) {
+                lookup.warn(deprecationWarning(expression, ""));
+            }
+            lookup.offer(value);
+        }
+
+        private String deprecationWarning(String expression, String bannedPrefix) {
+            return "The expression ${" + expression + "} is deprecated. Please use ${" + PREFIX_PROJECT
+                    + expression.substring(bannedPrefix.length()) + "} instead.";
+        }
+
+        private Object getBasedirValue(String expression) {
+            String expr = ValueSourceUtils.trimPrefix(expression, prefixes, true);
+            if ("basedir".equals(expr)) {
+                return projectDir.toAbsolutePath().toString();
+            } else if (expr.startsWith("basedir.")) {
+                return getObjectValue(projectDir.toAbsolutePath(), expr.substring("basedir.".length()));
+            }
+            return null;
+        }
+
+        private Object getBaseUriValue(String expression) {
+            String expr = ValueSourceUtils.trimPrefix(expression, prefixes, false);
+            if ("baseUri".equals(expr)) {
+                return projectDir.toAbsolutePath().toUri().toASCIIString();
+            } else if (expr != null && expr.startsWith("baseUri.")) {
+                return getObjectValue(projectDir.toAbsolutePath().toUri(), expr.substring("baseUri.".length()));
+            }
+            return null;
+        }
+
+        private Object getBuildTimestampValue(String expression) {
+            if ("build.timestamp".equals(expression) || "maven.build.timestamp".equals(expression)) {
+                if (buildTimestamp == null) {
+                    buildTimestamp = new MavenBuildTimestamp(
+                                    request.getSession().getStartTime(), modelProperties)
+                            .formattedTimestamp();
+                }
+                return buildTimestamp;
+            }
+            return null;
+        }
+
+        private Object getRootDirectoryValue(String expression) {
+            String expr = ValueSourceUtils.trimPrefix(expression, prefixes, false);
+            if ("rootDirectory".equals(expr)) {
+                Path root = rootLocator.findMandatoryRoot(projectDir);
+                return root.toFile().getPath();
+            } else if (expr != null && expr.startsWith("rootDirectory.")) {
+                Path root = rootLocator.findMandatoryRoot(projectDir);
+                return getObjectValue(root, expr.substring("rootDirectory.".length()));
+            }
+            return null;
+        }
+
+        /**
+         * Reads a dotted path of fields of the model using the generated accessors, and falls back
+         * to reflection for other expressions, like non-field getters, indexed or mapped properties.
+         */
+        private Object getModelValue(String expression) {
+            if (expression.trim().isEmpty()) {
+                return null;
+            }
+            Object value = model;
+            int start = 0;
+            while (true) {
+                int dot = expression.indexOf('.', start);
+                value = MavenAccessor.get(
+                        value, dot < 0 ? expression.substring(start) : expression.substring(start, dot));
+                if (value == MavenAccessor.UNKNOWN) {
+                    return getObjectValue(model, expression);
+                }
+                if (value == null || dot < 0) {
+                    return value;
+                }
+                start = dot + 1;
+            }
+        }
+    }
+
+    private static Object getObjectValue(Object root, String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ReflectionValueExtractor.evaluate(expression, root, false);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * The result of the lookup of an expression.
+     */
+    static class Lookup {
+        private final String wholeExpr;
+        Object value;
+        Object bestAnswer;
+        List<String> warnings;
+
+        Lookup(String wholeExpr) {
+            this.wholeExpr = wholeExpr;
+        }
+
+        /**
+         * Offers a candidate value, returns {@code true} if the value is accepted and the lookup is done.
+         * A value containing the expression itself is only kept to detect a cycle.
+         */
+        boolean offer(Object candidate) {
+            if (candidate != null) {
+                if (candidate.toString().contains(wholeExpr)) {
+                    bestAnswer = candidate;
+                } else {
+                    value = candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void warn(String warning) {
+            if (warnings == null) {
+                warnings = new ArrayList<>(1);
+            }
+            warnings.add(warning);
+        }
+    }
+
     static class PathTranslatingPostProcessor implements InterpolationPostProcessor {
 
         private final Collection<String> unprefixedPathKeys;
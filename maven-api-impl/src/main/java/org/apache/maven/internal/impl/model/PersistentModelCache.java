@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.Source;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A model cache which persists the file models read from the local repository, so that the POMs of
+ * parents and imported BOMs are not parsed and validated again on each build.
+ * <p>
+ * Models are stored in a compact binary form, along with their input locations, in a directory of the
+ * local repository. An entry is keyed by the path of the POM and is only used if the size, the last
+ * modification time and the content hash of the POM did not change. Any problem reading or writing
+ * an entry silently falls back to reading the POM. Problems reported while reading a POM are not
+ * persisted, so only the models read without any problem, and only depending on the POM and on the
+ * validation level, are cached. Entries are only deserialized into model classes.
+ */
+public class PersistentModelCache extends DefaultModelCache {
+
+    static final String CACHE_DIRECTORY = ".cache/maven-models";
+
+    private static final int MAGIC = 0x4D4D4332; // MMC2
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path localRepository;
+    private final Path cacheDirectory;
+
+    public PersistentModelCache(Path localRepository) {
+        this.localRepository = localRepository.toAbsolutePath().normalize();
+        this.cacheDirectory = this.localRepository.resolve(CACHE_DIRECTORY);
+    }
+
+    @Override
+    public <T> T computeIfAbsent(Source source, String tag, Supplier<T> data) {
+        Path path = source.getPath();
+        if (DefaultModelBuilder.FILE.equals(tag)
+                && data instanceof DefaultModelBuilder.FileModelReader reader
+                && path != null
+                && path.toAbsolutePath().normalize().startsWith(localRepository)) {
+            return super.computeIfAbsent(source, tag, () -> loadOrCompute(path, reader));
+        }
+        return super.computeIfAbsent(source, tag, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadOrCompute(Path path, DefaultModelBuilder.FileModelReader reader) {
+        Fingerprint fingerprint = Fingerprint.of(path);
+        if (fingerprint == null) {
+            return (T) reader.get();
+        }
+        // the problems reported by the validation depend on its level
+        Path entry = cacheDirectory.resolve(
+                hash(path.toAbsolutePath().normalize() + "@" + reader.getValidationLevel()) + ".bin");
+        Model model = read(entry, fingerprint);
+        if (model != null) {
+            return (T) model;
+        }
+        model = reader.get();
+        if (reader.isReusable()) {
+            write(entry, fingerprint, model);
+        }
+        return (T) model;
+    }
+
+    private Model read(Path entry, Fingerprint fingerprint) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (DataInputStream dis = new DataInputStream(Files.newInputStream(entry))) {
+            if (dis.readInt() != MAGIC || !fingerprint.equals(Fingerprint.read(dis))) {
+                return null;
+            }
+            try (ObjectInputStream ois = new ModelInputStream(new InflaterInputStream(dis))) {
+                return (Model) ois.readObject();
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to read cached model {}", entry, e);
+            return null;
+        }
+    }
+
+    private void write(Path entry, Fingerprint fingerprint, Model model) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (DataOutputStream dos = new DataOutputStream(baos)) {
+                dos.writeInt(MAGIC);
+                fingerprint.write(dos);
+                try (ObjectOutputStream oos = new ModelOutputStream(new DeflaterOutputStream(dos))) {
+                    oos.writeObject(model);
+                }
+            }
+            Files.createDirectories(cacheDirectory);
+            Path tmp = Files.createTempFile(cacheDirectory, "model", ".tmp");
+            try {
+                Files.write(tmp, baos.toByteArray());
+                try {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to write cached model {}", entry, e);
+        }
+    }
+
+    static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String hash(String data) {
+        return hash(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The size, last modification time and content hash of a POM.
+     */
+    record Fingerprint(long size, long lastModified, String contentHash) {
+
+        static Fingerprint of(Path path) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return new Fingerprint(
+                        attrs.size(), attrs.lastModifiedTime().toMillis(), hash(Files.readAllBytes(path)));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        static Fingerprint read(DataInputStream dis) throws IOException {
+            return new Fingerprint(dis.readLong(), dis.readLong(), dis.readUTF());
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeLong(size);
+            dos.writeLong(lastModified);
+            dos.writeUTF(contentHash);
+        }
+    }
+
+    /**
+     * Models hold a {@link Path} to the POM file, which is not serializable.
+     */
+    private record SerializedPath(String path) implements Serializable {}
+
+    private static class ModelOutputStream extends ObjectOutputStream {
+        ModelOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return obj instanceof Path ? new SerializedPath(obj.toString()) : obj;
+        }
+    }
+
+    private static class ModelInputStream extends ObjectInputStream {
+        /**
+         * The JDK classes used by the models and their input locations.
+         */
+        private static final Set<Class<?>> JDK_CLASSES = Set.of(
+                Object.class,
+                String.class,
+                Number.class,
+                Integer.class,
+                Boolean.class,
+                ArrayList.class,
+                HashMap.class,
+                LinkedHashMap.class,
+                AbstractMap.SimpleImmutableEntry.class);
+
+        ModelInputStream(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+            // only deserialize model classes
+            setObjectInputFilter(info -> {
+                Class<?> clazz = info.serialClass();
+                if (clazz == null) {
+                    return ObjectInputFilter.Status.UNDECIDED;
+                }
+                while (clazz.isArray()) {
+                    clazz = clazz.getComponentType();
+                }
+                return isModelClass(clazz) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+            });
+        }
+
+        private static boolean isModelClass(Class<?> clazz) {
+            String name = clazz.getName();
+            return clazz.isPrimitive()
+                    || Model.class.getPackageName().equals(clazz.getPackageName())
+                    || name.equals("org.apache.maven.internal.xml.XmlNodeImpl")
+                    || name.startsWith("org.apache.maven.internal.xml.ImmutableCollections")
+                    || clazz == SerializedPath.class
+                    || JDK_CLASSES.contains(clazz)
+                    // resolved paths are checked too, and their implementation is platform specific
+                    || Path.class.isAssignableFrom(clazz);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            return obj instanceof SerializedPath sp ? Paths.get(sp.path()) : obj;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, PersistentModelCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
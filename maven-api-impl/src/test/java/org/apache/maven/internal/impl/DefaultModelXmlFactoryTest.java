@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.io.StringReader;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.xml.XmlReaderRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DefaultModelXmlFactoryTest {
+
+    private static final String POM = "<project>\n"
+            + "  <groupId>org.apache.maven.its</groupId>\n"
+            + "  <artifactId>%s</artifactId>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>org.apache.maven.its</groupId>\n"
+            + "      <artifactId>dep</artifactId>\n"
+            + "      <scope>test</scope>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "</project>\n";
+
+    @Test
+    void testRepeatedValuesAreShared() {
+        Model first = read("first");
+        Model second = read("second");
+
+        assertEquals("first", first.getArtifactId());
+        assertEquals("second", second.getArtifactId());
+        assertSame(first.getGroupId(), second.getGroupId());
+        assertSame(first.getGroupId(), second.getDependencies().get(0).getGroupId());
+        assertSame(
+                first.getDependencies().get(0).getScope(),
+                second.getDependencies().get(0).getScope());
+
+        assertEquals(2, second.getLocation("groupId").getLineNumber());
+        assertEquals(5, second.getDependencies().get(0).getLocation("").getLineNumber());
+    }
+
+    private static Model read(String artifactId) {
+        return new DefaultModelXmlFactory()
+                .read(XmlReaderRequest.builder()
+                        .reader(new StringReader(String.format(POM, artifactId)))
+                        .modelId(artifactId)
+                        .build());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.apache.maven.api.JavaPathType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathModularizationIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAutomaticModuleName() throws IOException {
+        Path jar = createJar("named.jar", "org.apache.maven.named");
+        PathModularizationIndex index = new PathModularizationIndex(null);
+
+        PathModularization info = index.getModuleInfo(jar);
+        assertEquals(JavaPathType.MODULES, info.getPathType());
+        assertTrue(info.containsModule("org.apache.maven.named"));
+        assertSame(info, index.getModuleInfo(jar));
+    }
+
+    @Test
+    void testChangedFileIsReindexed() throws IOException {
+        Path jar = createJar("changed.jar", null);
+        PathModularizationIndex index = new PathModularizationIndex(null);
+        assertEquals(JavaPathType.CLASSES, index.getModuleInfo(jar).getPathType());
+
+        createJar("changed.jar", "org.apache.maven.changed");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertTrue(index.getModuleInfo(jar).containsModule("org.apache.maven.changed"));
+    }
+
+    @Test
+    void testPersistentIndex() throws IOException {
+        Path named = createJar("named.jar", "org.apache.maven.named");
+        Path unnamed = createJar("unnamed.jar", null);
+        Path file = directory.resolve(PathModularizationIndex.CACHE_FILE);
+
+        PathModularizationIndex index = new PathModularizationIndex(file);
+        index.getModuleInfo(named);
+        index.getModuleInfo(unnamed);
+        index.save();
+        assertTrue(Files.isRegularFile(file));
+
+        // the persisted entries must be used instead of opening the (now invalid) JAR files
+        FileTime namedTime = Files.getLastModifiedTime(named);
+        FileTime unnamedTime = Files.getLastModifiedTime(unnamed);
+        Files.write(named, new byte[(int) Files.size(named)]);
+        Files.write(unnamed, new byte[(int) Files.size(unnamed)]);
+        Files.setLastModifiedTime(named, namedTime);
+        Files.setLastModifiedTime(unnamed, unnamedTime);
+
+        PathModularizationIndex reloaded = new PathModularizationIndex(file);
+        assertTrue(reloaded.getModuleInfo(named).containsModule("org.apache.maven.named"));
+        assertFalse(reloaded.getModuleInfo(unnamed).containsModule("org.apache.maven.named"));
+        assertEquals(JavaPathType.CLASSES, reloaded.getModuleInfo(unnamed).getPathType());
+    }
+
+    private Path createJar(String name, String automaticModuleName) throws IOException {
+        Path jar = directory.resolve(name);
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (automaticModuleName != null) {
+            manifest.getMainAttributes().put(new Attributes.Name("Automatic-Module-Name"), automaticModuleName);
+        }
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jos = new JarOutputStream(out, manifest)) {
+            jos.flush();
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of the synchronized {@link WeakHashMap} previously used by {@link AbstractSession}
+ * to intern API wrappers with the {@link WeakInterner}, when accessed by many threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class WeakInternerPerfTest {
+
+    static final int ARTIFACTS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class InternerState {
+        Artifact[] artifacts;
+        Map<Artifact, Object> synchronizedMap;
+        WeakInterner<Artifact, Object> interner;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            artifacts = new Artifact[ARTIFACTS];
+            for (int i = 0; i < ARTIFACTS; i++) {
+                artifacts[i] = new DefaultArtifact("org.apache.maven", "artifact-" + (i % 1000), "jar", "1." + i);
+            }
+            synchronizedMap = Collections.synchronizedMap(new WeakHashMap<>());
+            interner = new WeakInterner<>();
+        }
+    }
+
+    @Benchmark
+    public Object synchronizedWeakHashMap(InternerState state) {
+        Artifact artifact = state.artifacts[ThreadLocalRandom.current().nextInt(ARTIFACTS)];
+        return state.synchronizedMap.computeIfAbsent(artifact, a -> new Object());
+    }
+
+    @Benchmark
+    public Object weakInterner(InternerState state) {
+        Artifact artifact = state.artifacts[ThreadLocalRandom.current().nextInt(ARTIFACTS)];
+        return state.interner.computeIfAbsent(artifact, a -> new Object());
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        for (int threads : new int[] {1, 8, 32}) {
+            Options opts = new OptionsBuilder()
+                    .include(WeakInternerPerfTest.class.getSimpleName())
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+            new Runner(opts).run();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeakInternerTest {
+
+    @Test
+    void testEqualKeysShareValue() {
+        WeakInterner<String, Object> interner = new WeakInterner<>();
+        String key1 = new String("key");
+        String key2 = new String("key");
+        Object value = interner.computeIfAbsent(key1, k -> new Object());
+        assertSame(value, interner.computeIfAbsent(key2, k -> new Object()));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void testConcurrentAccessCreatesSingleValue() throws Exception {
+        WeakInterner<String, Object> interner = new WeakInterner<>();
+        AtomicInteger created = new AtomicInteger();
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return interner.computeIfAbsent(new String("key"), k -> {
+                        created.incrementAndGet();
+                        return new Object();
+                    });
+                }));
+            }
+            start.countDown();
+            Object value = futures.get(0).get();
+            for (Future<Object> future : futures) {
+                assertSame(value, future.get());
+            }
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCollectedKeysAreExpunged() throws Exception {
+        WeakInterner<Object, String> interner = new WeakInterner<>();
+        for (int i = 0; i < 1000; i++) {
+            interner.computeIfAbsent(new Object(), k -> "value");
+        }
+        for (int i = 0; i < 50 && interner.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+            interner.computeIfAbsent(new Object(), k -> "value");
+        }
+        assertTrue(interner.size() < 1000, "stale entries should have been expunged");
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.model.Scm;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.internal.impl.DefaultUrlNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Interpolates the effective models of a reactor of 200 modules, each one with 100 dependencies,
+ * 20 plugins and 50 properties, most of them using expressions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class DefaultModelInterpolatorPerfTest {
+
+    static final int MODULES = 200;
+
+    static final int DEPENDENCIES = 100;
+
+    static final int PLUGINS = 20;
+
+    static final int PROPERTIES = 50;
+
+    @State(Scope.Benchmark)
+    public static class ReactorState {
+        DefaultModelInterpolator interpolator;
+
+        ModelBuilderRequest request;
+
+        Path rootDirectory;
+
+        List<Model> models;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            interpolator = new DefaultModelInterpolator(
+                    new DefaultPathTranslator(), new DefaultUrlNormalizer(), new DefaultRootLocator());
+
+            Map<String, String> userProperties = new HashMap<>();
+            userProperties.put("revision", "1.0-SNAPSHOT");
+            Session session = mock(Session.class, withSettings().stubOnly());
+            doReturn(Instant.now()).when(session).getStartTime();
+            request = mock(ModelBuilderRequest.class, withSettings().stubOnly());
+            doReturn(session).when(request).getSession();
+            doReturn(ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0)
+                    .when(request)
+                    .getValidationLevel();
+            doReturn(userProperties).when(request).getUserProperties();
+            doReturn(new HashMap<>(System.getenv())).when(request).getSystemProperties();
+
+            rootDirectory = Paths.get("/reactor");
+            models = new ArrayList<>(MODULES);
+            for (int m = 0; m < MODULES; m++) {
+                models.add(createModel(m));
+            }
+        }
+
+        private Model createModel(int module) {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < PROPERTIES; i++) {
+                properties.put("dep" + i + ".version", i % 5 == 0 ? "${project.version}" : "2." + i);
+            }
+            properties.put("project.build.sourceEncoding", "UTF-8");
+            properties.put("generated.directory", "${project.build.directory}/generated-sources");
+
+            List<Dependency> dependencies = new ArrayList<>(DEPENDENCIES);
+            for (int i = 0; i < DEPENDENCIES; i++) {
+                dependencies.add(Dependency.newBuilder()
+                        .groupId(i % 3 == 0 ? "${project.groupId}" : "org.example.group" + i)
+                        .artifactId("artifact-" + i)
+                        .version("${dep" + (i % PROPERTIES) + ".version}")
+                        .scope(i % 4 == 0 ? "test" : null)
+                        .build());
+            }
+
+            List<Plugin> plugins = new ArrayList<>(PLUGINS);
+            for (int i = 0; i < PLUGINS; i++) {
+                plugins.add(Plugin.newBuilder()
+                        .groupId("org.apache.maven.plugins")
+                        .artifactId("maven-plugin-" + i)
+                        .version("${dep" + i + ".version}")
+                        .build());
+            }
+
+            return Model.newBuilder()
+                    .modelVersion("4.0.0")
+                    .groupId("org.example")
+                    .artifactId("module-" + module)
+                    .version("${revision}")
+                    .name("Module ${project.artifactId} ${project.version}")
+                    .description("${project.name} built from ${project.basedir} at ${maven.build.timestamp}")
+                    .url("https://example.org/${project.artifactId}")
+                    .scm(Scm.newBuilder()
+                            .url("${project.url}")
+                            .connection("scm:git:https://example.org/${project.artifactId}.git")
+                            .build())
+                    .properties(properties)
+                    .dependencies(dependencies)
+                    .build(Build.newBuilder()
+                            .directory("${project.basedir}/target")
+                            .outputDirectory("${project.build.directory}/classes")
+                            .testOutputDirectory("${project.build.directory}/test-classes")
+                            .sourceDirectory("${project.basedir}/src/main/java")
+                            .finalName("${project.artifactId}-${project.version}")
+                            .plugins(plugins)
+                            .build())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void interpolateReactor(ReactorState state, Blackhole blackhole) {
+        for (int m = 0; m < state.models.size(); m++) {
+            DefaultModelProblemCollector problems = new DefaultModelProblemCollector(new DefaultModelBuilderResult());
+            blackhole.consume(state.interpolator.interpolateModel(
+                    state.models.get(m), state.rootDirectory.resolve("module-" + m), state.request, problems));
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DefaultModelInterpolatorPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Scm;
+import org.apache.maven.api.services.BuilderProblem;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.ModelProblem;
+import org.apache.maven.api.services.ModelProblemCollector;
+import org.apache.maven.internal.impl.DefaultUrlNormalizer;
+import org.codehaus.plexus.interpolation.MapBasedValueSource;
+import org.codehaus.plexus.interpolation.ValueSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultModelInterpolatorTest {
+
+    @TempDir
+    Path projectDir;
+
+    DefaultModelInterpolator interpolator;
+
+    DefaultModelProblemCollector problems;
+
+    @BeforeEach
+    void setUp() {
+        interpolator = new DefaultModelInterpolator(
+                new DefaultPathTranslator(), new DefaultUrlNormalizer(), new DefaultRootLocator());
+        problems = new DefaultModelProblemCollector(new DefaultModelBuilderResult());
+    }
+
+    @Test
+    void testModelAndPropertyExpressions() {
+        Model model = Model.newBuilder()
+                .groupId("org.apache.maven")
+                .artifactId("interpolated")
+                .version("1.0")
+                .name("${project.artifactId} ${suffix}")
+                .url("${project.scm.url}")
+                .scm(Scm.newBuilder()
+                        .url("https://maven.apache.org/${project.groupId}/../${project.artifactId}")
+                        .build())
+                .properties(Map.of("suffix", "${project.version}-${user}"))
+                .dependencies(List.of(Dependency.newBuilder()
+                        .artifactId("dep")
+                        .version("${project.version}")
+                        .classifier("${project.dependencies[0].artifactId}")
+                        .build()))
+                .description("${project.id} ${unknown}")
+                .build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0);
+
+        assertEquals("interpolated 1.0-me", result.getName());
+        assertEquals("https://maven.apache.org/interpolated", result.getUrl());
+        assertEquals("1.0", result.getDependencies().get(0).getVersion());
+        assertEquals("dep", result.getDependencies().get(0).getClassifier());
+        assertEquals("org.apache.maven:interpolated:jar:1.0 ${unknown}", result.getDescription());
+        assertTrue(problems.getProblems().isEmpty());
+    }
+
+    @Test
+    void testBuildDirectoriesAreAlignedToProjectDirectory() {
+        Model model = Model.newBuilder()
+                .build(Build.newBuilder()
+                        .directory("target")
+                        .outputDirectory("${project.build.directory}/classes")
+                        .finalName("${project.basedir}")
+                        .build())
+                .build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0);
+
+        assertEquals(
+                projectDir.resolve("target") + "/classes", result.getBuild().getOutputDirectory());
+        assertEquals(projectDir.toAbsolutePath().toString(), result.getBuild().getFinalName());
+    }
+
+    @Test
+    void testRecursiveExpressionIsReported() {
+        Model model = Model.newBuilder()
+                .name("${first}")
+                .properties(Map.of("first", "${second}", "second", "${project.name}"))
+                .build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0);
+
+        assertEquals("${first}", result.getName());
+        // the properties are interpolated too, and report the same cycle
+        assertEquals(3, problems.getProblems().size());
+        assertTrue(problems.getProblems().stream().allMatch(p -> p.getSeverity() == BuilderProblem.Severity.ERROR));
+        assertTrue(problems.getProblems().stream()
+                .anyMatch(p -> ("Resolving expression: '${first}': Detected the following recursive expression cycle "
+                                + "in 'first': [first, second, name]")
+                        .equals(p.getMessage())));
+    }
+
+    @Test
+    void testDeprecatedExpressionIsReported() {
+        Model model = Model.newBuilder().version("1.0").name("${pom.version}").build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_3_1);
+
+        assertEquals("1.0", result.getName());
+        assertEquals(1, problems.getProblems().size());
+        ModelProblem problem = problems.getProblems().get(0);
+        assertEquals(BuilderProblem.Severity.WARNING, problem.getSeverity());
+        assertEquals(
+                "The expression ${pom.version} is deprecated. Please use ${project.version} instead.",
+                problem.getMessage());
+    }
+
+    @Test
+    void testDeprecatedExpressionIsReportedOncePerModel() {
+        Model model = Model.newBuilder()
+                .version("1.0")
+                .name("${pom.version}")
+                .description("version ${pom.version}")
+                .url("https://maven.apache.org/${pom.version}")
+                .build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_3_1);
+
+        assertEquals("version 1.0", result.getDescription());
+        assertEquals(1, problems.getProblems().size());
+    }
+
+    @Test
+    void testValueSourcesOfSubclassesAreConsulted() {
+        interpolator =
+                new DefaultModelInterpolator(
+                        new DefaultPathTranslator(), new DefaultUrlNormalizer(), new DefaultRootLocator()) {
+                    @Override
+                    protected List<ValueSource> createValueSources(
+                            Model model, Path projectDir, ModelBuilderRequest request, ModelProblemCollector problems) {
+                        List<ValueSource> valueSources = super.createValueSources(model, projectDir, request, problems);
+                        valueSources.add(new MapBasedValueSource(Map.of("custom", "value", "user", "other")));
+                        return valueSources;
+                    }
+                };
+        Model model = Model.newBuilder().name("${custom} ${user} ${unknown}").build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0);
+
+        assertEquals("value me ${unknown}", result.getName());
+        assertTrue(problems.getProblems().isEmpty());
+    }
+
+    @Test
+    void testValueSourcesOfSubclassesAreConsultedInTheirOrder() {
+        interpolator =
+                new DefaultModelInterpolator(
+                        new DefaultPathTranslator(), new DefaultUrlNormalizer(), new DefaultRootLocator()) {
+                    @Override
+                    protected List<ValueSource> createValueSources(
+                            Model model, Path projectDir, ModelBuilderRequest request, ModelProblemCollector problems) {
+                        List<ValueSource> valueSources = super.createValueSources(model, projectDir, request, problems);
+                        valueSources.add(0, new MapBasedValueSource(Map.of("user", "other", "project.version", "2.0")));
+                        return valueSources;
+                    }
+                };
+        Model model = Model.newBuilder()
+                .version("1.0")
+                .name("${user} ${project.version}")
+                .build();
+
+        Model result = interpolate(model, ModelBuilderRequest.VALIDATION_LEVEL_MAVEN_4_0);
+
+        assertEquals("other 2.0", result.getName());
+        assertTrue(problems.getProblems().isEmpty());
+    }
+
+    private Model interpolate(Model model, int validationLevel) {
+        ModelBuilderRequest request = mock(ModelBuilderRequest.class);
+        when(request.getValidationLevel()).thenReturn(validationLevel);
+        when(request.getUserProperties()).thenReturn(Map.of("user", "me"));
+        when(request.getSystemProperties()).thenReturn(Collections.emptyMap());
+        Session session = mock(Session.class);
+        when(session.getStartTime()).thenReturn(Instant.now());
+        when(request.getSession()).thenReturn(session);
+        return interpolator.interpolateModel(model, projectDir, request, problems);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.InputLocation;
+import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.ModelProblem;
+import org.apache.maven.api.services.Source;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistentModelCacheTest {
+
+    @TempDir
+    Path localRepository;
+
+    @Test
+    void testFileModelIsPersisted() throws Exception {
+        Path pom = localRepository.resolve("org/apache/maven/maven-bom/1.0/maven-bom-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, "<project/>");
+
+        AtomicInteger reads = new AtomicInteger();
+        Model model = readFileModel(pom, reads);
+        assertEquals(1, reads.get());
+
+        // a new session reuses the persisted model
+        Model cached = readFileModel(pom, reads);
+        assertEquals(1, reads.get());
+        assertEquals(model.getGroupId(), cached.getGroupId());
+        assertEquals(pom, cached.getPomFile());
+        assertEquals("junit", cached.getDependencies().get(0).getArtifactId());
+        assertEquals(3, cached.getLocation("groupId").getLineNumber());
+        assertEquals("bom", cached.getLocation("groupId").getSource().getModelId());
+
+        // modifying the POM invalidates the persisted model
+        Files.writeString(pom, "<project></project>");
+        readFileModel(pom, reads);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testFileModelWithProblemsIsNotPersisted() throws Exception {
+        Path pom = localRepository.resolve("org/apache/maven/maven-bom/1.0/maven-bom-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, "<project/>");
+
+        AtomicInteger reads = new AtomicInteger();
+        DefaultModelProblemCollector problems = new DefaultModelProblemCollector(new DefaultModelBuilderResult());
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_STRICT, problems, true);
+        assertEquals(1, problems.getProblems().size());
+
+        // the problem is reported again
+        problems = new DefaultModelProblemCollector(new DefaultModelBuilderResult());
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_STRICT, problems, true);
+        assertEquals(2, reads.get());
+        assertEquals(1, problems.getProblems().size());
+    }
+
+    @Test
+    void testFileModelIsPersistedPerValidationLevel() throws Exception {
+        Path pom = localRepository.resolve("org/apache/maven/maven-bom/1.0/maven-bom-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, "<project/>");
+
+        AtomicInteger reads = new AtomicInteger();
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_MINIMAL);
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_STRICT);
+        assertEquals(2, reads.get());
+
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_MINIMAL);
+        readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_STRICT);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testFileModelOutsideLocalRepositoryIsNotPersisted(@TempDir Path project) throws Exception {
+        Path pom = project.resolve("pom.xml");
+        Files.writeString(pom, "<project/>");
+
+        AtomicInteger reads = new AtomicInteger();
+        readFileModel(pom, reads);
+        readFileModel(pom, reads);
+        assertEquals(2, reads.get());
+    }
+
+    private Model readFileModel(Path pom, AtomicInteger reads) {
+        return readFileModel(pom, reads, ModelBuilderRequest.VALIDATION_LEVEL_STRICT);
+    }
+
+    private Model readFileModel(Path pom, AtomicInteger reads, int validationLevel) {
+        return readFileModel(
+                pom, reads, validationLevel, new DefaultModelProblemCollector(new DefaultModelBuilderResult()), false);
+    }
+
+    private Model readFileModel(
+            Path pom,
+            AtomicInteger reads,
+            int validationLevel,
+            DefaultModelProblemCollector problems,
+            boolean withProblem) {
+        PersistentModelCache cache = new PersistentModelCache(localRepository);
+        return cache.computeIfAbsent(
+                Source.fromPath(pom),
+                DefaultModelBuilder.FILE,
+                new DefaultModelBuilder.FileModelReader(validationLevel, problems, () -> {
+                    reads.incrementAndGet();
+                    if (withProblem) {
+                        problems.add(ModelProblem.Severity.WARNING, ModelProblem.Version.V20, "Malformed POM");
+                    }
+                    InputSource source = new InputSource("bom", pom.toString());
+                    return Model.newBuilder()
+                            .modelVersion("4.0.0")
+                            .groupId("org.apache.maven")
+                            .location("groupId", new InputLocation(3, 5, source))
+                            .dependencies(List.of(
+                                    Dependency.newBuilder().artifactId("junit").build()))
+                            .pomFile(pom)
+                            .build();
+                }));
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.standalone;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.InputLocation;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilder;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.ModelBuilderResult;
+import org.apache.maven.api.services.ModelSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds the effective model of a large POM with location tracking and checks the bytes retained by the model,
+ * comparing the size of the location tables with the size of the hash maps which used to hold the locations
+ * of each model object.
+ */
+class ModelFootprintTest {
+
+    static final int DEPENDENCIES = 2000;
+    static final int PLUGINS = 200;
+    static final int PROPERTIES = 1000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLocationFootprint() throws Exception {
+        Path pom = createPom(directory);
+        Session session = ApiRunner.createSession();
+        ModelBuilder builder = session.getService(ModelBuilder.class);
+        ModelBuilderResult result = builder.build(ModelBuilderRequest.builder()
+                .session(session)
+                .source(ModelSource.fromPath(pom))
+                .projectBuild(true)
+                .locationTracking(true)
+                .build());
+        Model model = result.getEffectiveModel();
+        assertNotNull(model);
+        assertEquals(2 * DEPENDENCIES, model.getDependencies().size());
+        InputLocation location = model.getDependencies().get(0).getLocation("artifactId");
+        assertNotNull(location);
+        assertTrue(location.getLineNumber() > 0);
+
+        Footprint footprint = new Footprint();
+        footprint.walk(model);
+        long before = footprint.retained - footprint.tables + footprint.maps;
+        // the location tables take about a tenth of the hash maps, which took more than half of the model
+        assertTrue(
+                footprint.tables * 4 < footprint.maps,
+                footprint.tables + " bytes of location tables instead of " + footprint.maps + " bytes of maps");
+        assertTrue(
+                footprint.retained * 3 < before * 2,
+                "the model of " + footprint.trackers + " objects retains " + footprint.retained + " bytes instead of "
+                        + before + " bytes");
+    }
+
+    static Path createPom(Path directory) throws Exception {
+        StringBuilder pom = new StringBuilder(1024 * 1024);
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+        pom.append("  <groupId>org.apache.maven.its</groupId>\n");
+        pom.append("  <artifactId>footprint</artifactId>\n");
+        pom.append("  <version>1.0</version>\n");
+        pom.append("  <packaging>pom</packaging>\n");
+        pom.append("  <properties>\n");
+        for (int i = 0; i < PROPERTIES; i++) {
+            pom.append("    <property.").append(i).append(">value-").append(i);
+            pom.append("</property.").append(i).append(">\n");
+        }
+        pom.append("  </properties>\n");
+        pom.append("  <dependencyManagement>\n    <dependencies>\n");
+        for (int i = 0; i < DEPENDENCIES; i++) {
+            dependency(pom, "managed-" + i, "1.0", "      ");
+        }
+        pom.append("    </dependencies>\n  </dependencyManagement>\n");
+        pom.append("  <dependencies>\n");
+        for (int i = 0; i < DEPENDENCIES; i++) {
+            dependency(pom, "managed-" + i, null, "    ");
+            dependency(pom, "dependency-" + i, "${property." + (i % PROPERTIES) + "}", "    ");
+        }
+        pom.append("  </dependencies>\n");
+        pom.append("  <build>\n    <plugins>\n");
+        for (int i = 0; i < PLUGINS; i++) {
+            pom.append("      <plugin>\n");
+            pom.append("        <groupId>org.apache.maven.its</groupId>\n");
+            pom.append("        <artifactId>plugin-").append(i).append("</artifactId>\n");
+            pom.append("        <version>1.0</version>\n");
+            pom.append("        <configuration>\n");
+            pom.append("          <name>plugin-").append(i).append("</name>\n");
+            pom.append("          <items><item>a</item><item>b</item></items>\n");
+            pom.append("        </configuration>\n");
+            pom.append("      </plugin>\n");
+        }
+        pom.append("    </plugins>\n  </build>\n");
+        pom.append("</project>\n");
+        Path file = directory.resolve("pom.xml");
+        Files.writeString(file, pom);
+        return file;
+    }
+
+    private static void dependency(StringBuilder pom, String artifactId, String version, String indent) {
+        pom.append(indent).append("<dependency>\n");
+        pom.append(indent).append("  <groupId>org.apache.maven.its</groupId>\n");
+        pom.append(indent).append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (version != null) {
+            pom.append(indent).append("  <version>").append(version).append("</version>\n");
+        }
+        pom.append(indent).append("</dependency>\n");
+    }
+
+    /**
+     * Approximates the retained size of an object graph, assuming compressed references.
+     * Objects of JDK classes are not inspected, except strings, collections and maps.
+     */
+    static class Footprint {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> queue = new ArrayDeque<>();
+        long retained;
+        long tables;
+        long maps;
+        int trackers;
+
+        void walk(Object root) throws IllegalAccessException {
+            queue.push(root);
+            while (!queue.isEmpty()) {
+                Object object = queue.pop();
+                if (!visited.add(object)) {
+                    continue;
+                }
+                Class<?> type = object.getClass();
+                if (type.isArray()) {
+                    int length = Array.getLength(object);
+                    Class<?> component = type.getComponentType();
+                    long size = align(16 + (long) length * sizeOf(component));
+                    retained += size;
+                    if (component == InputLocation.class) {
+                        tables += size;
+                    }
+                    if (!component.isPrimitive()) {
+                        for (int i = 0; i < length; i++) {
+                            push(Array.get(object, i));
+                        }
+                    }
+                } else if (object instanceof String string) {
+                    retained += 24 + align(16 + string.length());
+                } else if (type.getModule().isNamed()) {
+                    retained += shallowSize(type);
+                    if (object instanceof Collection<?> collection) {
+                        collection.forEach(this::push);
+                    } else if (object instanceof Map<?, ?> map) {
+                        retained += 32L * map.size();
+                        map.forEach((k, v) -> {
+                            push(k);
+                            push(v);
+                        });
+                    }
+                } else {
+                    retained += shallowSize(type);
+                    // the fields of JDK superclasses, like AbstractMap, are not accessible
+                    for (Class<?> c = type; c != null && !c.getModule().isNamed(); c = c.getSuperclass()) {
+                        for (Field field : c.getDeclaredFields()) {
+                            if (Modifier.isStatic(field.getModifiers())) {
+                                if (field.getName().equals("LOCATION_KEYS")) {
+                                    field.setAccessible(true);
+                                    maps += hashMapSize(((Object[]) field.get(null)).length);
+                                    if (c == type) {
+                                        trackers++;
+                                    }
+                                }
+                            } else if (!field.getType().isPrimitive()) {
+                                field.setAccessible(true);
+                                push(field.get(object));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void push(Object object) {
+            if (object != null && !visited.contains(object)) {
+                queue.push(object);
+            }
+        }
+
+        /**
+         * Size of an unmodifiable view of a {@code HashMap} holding the given number of entries.
+         */
+        static long hashMapSize(int entries) {
+            int capacity = 16;
+            while (entries > capacity * 3 / 4) {
+                capacity *= 2;
+            }
+            return 32 + 48 + align(16 + 4L * capacity) + 32L * entries;
+        }
+
+        static long shallowSize(Class<?> type) {
+            long size = 12;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += sizeOf(field.getType());
+                    }
+                }
+            }
+            return align(size);
+        }
+
+        static int sizeOf(Class<?> type) {
+            if (type == long.class || type == double.class) {
+                return 8;
+            } else if (type == int.class || type == float.class || !type.isPrimitive()) {
+                return 4;
+            } else if (type == short.class || type == char.class) {
+                return 2;
+            } else {
+                return 1;
+            }
+        }
+
+        static long align(long size) {
+            return (size + 7) & ~7L;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.standalone;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.di.SessionScoped;
+import org.apache.maven.api.services.ArtifactManager;
+import org.apache.maven.api.services.ArtifactResolver;
+import org.apache.maven.api.services.DependencyResolver;
+import org.apache.maven.api.services.ModelBuilder;
+import org.apache.maven.api.services.RepositoryFactory;
+import org.apache.maven.api.services.SettingsBuilder;
+import org.apache.maven.api.services.TypeRegistry;
+import org.apache.maven.api.services.VersionParser;
+import org.apache.maven.di.Injector;
+import org.apache.maven.internal.impl.di.SessionScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time to create a standalone session and look up its first service, and the time to look up
+ * the main services from the injector of an existing session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class SessionStartupPerfTest {
+
+    static final List<Class<?>> SERVICES = List.of(
+            ArtifactManager.class,
+            DependencyResolver.class,
+            ModelBuilder.class,
+            ArtifactResolver.class,
+            RepositoryFactory.class,
+            SettingsBuilder.class,
+            TypeRegistry.class,
+            VersionParser.class);
+
+    @State(Scope.Benchmark)
+    public static class InjectorState {
+        Injector injector;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // same as ApiRunner.createSession(), keeping the injector
+            injector = Injector.create();
+            injector.bindInstance(Injector.class, injector);
+            injector.bindImplicit(ApiRunner.class);
+            injector.discover(ApiRunner.class.getClassLoader());
+            Session session = injector.getInstance(Session.class);
+            SessionScope scope = new SessionScope();
+            scope.enter();
+            scope.seed(Session.class, session);
+            injector.bindScope(SessionScoped.class, scope);
+        }
+    }
+
+    @Benchmark
+    public ModelBuilder firstServiceLookup() {
+        return ApiRunner.createSession().getService(ModelBuilder.class);
+    }
+
+    @Benchmark
+    public void serviceLookups(InjectorState state, Blackhole blackhole) {
+        for (Class<?> service : SERVICES) {
+            blackhole.consume(state.injector.getInstance(service));
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(SessionStartupPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -23,11 +23,12 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -66,12 +67,23 @@ public class ComparableVersion implements Comparable<ComparableVersion> {
 
     private static final int MAX_LONGITEM_LENGTH = 18;
 
+    /**
+     * Maximum number of shared instances kept by {@link #of(String)}.
+     */
+    private static final int MAX_INTERNED = 16384;
+
+    private static final Map<String, ComparableVersion> INTERNED = new ConcurrentHashMap<>();
+
     private String value;
 
     private String canonical;
 
     private ListItem items;
 
+    private int hash;
+
+    private boolean shared;
+
     private interface Item {
         int INT_ITEM = 3;
         int LONG_ITEM = 4;
@@ -331,6 +343,11 @@ private static class StringItem implements Item {
 
         private final String value;
 
+        /**
+         * The value returned by {@link #comparableQualifier(String)} for this item, computed once.
+         */
+        private final String comparable;
+
         StringItem(String value, boolean followedByDigit) {
             if (followedByDigit && value.length() == 1) {
                 // a1 = alpha-1, b1 = beta-1, m1 = milestone-1
@@ -348,6 +365,7 @@ private static class StringItem implements Item {
                 }
             }
             this.value = ALIASES.getProperty(value, value);
+            this.comparable = comparableQualifier(this.value);
         }
 
         @Override
@@ -389,7 +407,7 @@ public static String comparableQualifier(String qualifier) {
         public int compareTo(Item item) {
             if (item == null) {
                 // 1-rc < 1, 1-ga > 1
-                return comparableQualifier(value).compareTo(RELEASE_VERSION_INDEX);
+                return comparable.compareTo(RELEASE_VERSION_INDEX);
             }
             switch (item.getType()) {
                 case INT_ITEM:
@@ -398,7 +416,7 @@ public int compareTo(Item item) {
                     return -1; // 1.any < 1.1 ?
 
                 case STRING_ITEM:
-                    return comparableQualifier(value).compareTo(comparableQualifier(((StringItem) item).value));
+                    return comparable.compareTo(((StringItem) item).comparable);
 
                 case COMBINATION_ITEM:
                     int result = this.compareTo(((CombinationItem) item).getStringPart());
@@ -578,8 +596,8 @@ public int compareTo(Item item) {
                     return 0; // 1-0 = 1- (normalize) = 1
                 }
                 // Compare the entire list of items with null - not just the first one, MNG-6964
-                for (Item i : this) {
-                    int result = i.compareTo(null);
+                for (int i = 0, n = size(); i < n; i++) {
+                    int result = get(i).compareTo(null);
                     if (result != 0) {
                         return result;
                     }
@@ -598,12 +616,14 @@ public int compareTo(Item item) {
                     return 1; // 1-1 > 1-sp
 
                 case LIST_ITEM:
-                    Iterator<Item> left = iterator();
-                    Iterator<Item> right = ((ListItem) item).iterator();
+                    // indexed access rather than iterators, so that comparisons do not allocate
+                    ListItem other = (ListItem) item;
+                    int leftSize = size();
+                    int rightSize = other.size();
 
-                    while (left.hasNext() || right.hasNext()) {
-                        Item l = left.hasNext() ? left.next() : null;
-                        Item r = right.hasNext() ? right.next() : null;
+                    for (int i = 0, n = Math.max(leftSize, rightSize); i < n; i++) {
+                        Item l = i < leftSize ? get(i) : null;
+                        Item r = i < rightSize ? other.get(i) : null;
 
                         // if this is shorter, then invert the compare and mul with -1
                         int result = l == null ? (r == null ? 0 : -1 * r.compareTo(l)) : l.compareTo(r);
@@ -657,9 +677,39 @@ public ComparableVersion(String version) {
         parseVersion(version);
     }
 
+    /**
+     * Returns a shared instance for the given version string. Version strings are parsed once,
+     * and the same instance is returned for later calls with an equal string, as long as the
+     * number of shared instances stays reasonable. The returned instance can not be modified:
+     * {@link #parseVersion(String)} throws an {@link UnsupportedOperationException}.
+     *
+     * @param version the version string
+     * @return the shared instance for the given version string
+     * @since 4.0.0
+     */
+    public static ComparableVersion of(String version) {
+        ComparableVersion result = INTERNED.get(version);
+        if (result == null) {
+            result = new ComparableVersion(version);
+            result.shared = true;
+            if (INTERNED.size() < MAX_INTERNED) {
+                ComparableVersion existing = INTERNED.putIfAbsent(version, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
+    }
+
     @SuppressWarnings("checkstyle:innerassignment")
     public final void parseVersion(String version) {
+        if (shared) {
+            throw new UnsupportedOperationException("Shared instances can not be modified");
+        }
         this.value = version;
+        this.canonical = null;
+        this.hash = 0;
 
         items = new ListItem();
 
@@ -787,6 +837,9 @@ private static String stripLeadingZeroes(String buf) {
 
     @Override
     public int compareTo(ComparableVersion o) {
+        if (this == o) {
+            return 0;
+        }
         return items.compareTo(o.items);
     }
 
@@ -809,7 +862,12 @@ public boolean equals(Object o) {
 
     @Override
     public int hashCode() {
-        return items.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = items.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     // CHECKSTYLE_OFF: LineLength
@@ -86,7 +86,7 @@ public String getQualifier() {
     }
 
     public final void parseVersion(String version) {
-        comparable = new ComparableVersion(version);
+        comparable = ComparableVersion.of(version);
 
         int index = version.indexOf('-');
 
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Sorts version lists published on Maven Central, either parsing each version string
+ * as done by version range resolution, or using the shared instances of {@link ComparableVersion#of(String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class ComparableVersionPerfTest {
+
+    // com.google.guava:guava
+    static final String[] GUAVA = {
+        "r03",
+        "r05",
+        "r06",
+        "r07",
+        "r08",
+        "r09",
+        "10.0",
+        "10.0.1",
+        "11.0",
+        "11.0.1",
+        "11.0.2",
+        "12.0-rc1",
+        "12.0-rc2",
+        "12.0",
+        "12.0.1",
+        "13.0-rc1",
+        "13.0-rc2",
+        "13.0",
+        "13.0.1",
+        "14.0-rc1",
+        "14.0-rc2",
+        "14.0-rc3",
+        "14.0",
+        "14.0.1",
+        "15.0-rc1",
+        "15.0",
+        "16.0-rc1",
+        "16.0",
+        "16.0.1",
+        "17.0-rc1",
+        "17.0-rc2",
+        "17.0",
+        "18.0-rc1",
+        "18.0-rc2",
+        "18.0",
+        "19.0-rc1",
+        "19.0-rc2",
+        "19.0-rc3",
+        "19.0",
+        "20.0-rc1",
+        "20.0",
+        "21.0-rc1",
+        "21.0-rc2",
+        "21.0",
+        "22.0-rc1",
+        "22.0-rc1-android",
+        "22.0",
+        "22.0-android",
+        "23.0-rc1",
+        "23.0",
+        "23.0-android",
+        "23.1-jre",
+        "23.1-android",
+        "23.2-jre",
+        "23.2-android",
+        "23.3-jre",
+        "23.3-android",
+        "23.4-jre",
+        "23.4-android",
+        "23.5-jre",
+        "23.5-android",
+        "23.6-jre",
+        "23.6-android",
+        "23.6.1-jre",
+        "23.6.1-android",
+        "24.0-jre",
+        "24.0-android",
+        "24.1-jre",
+        "24.1-android",
+        "24.1.1-jre",
+        "24.1.1-android",
+        "25.0-jre",
+        "25.0-android",
+        "25.1-jre",
+        "25.1-android",
+        "26.0-jre",
+        "26.0-android",
+        "27.0-jre",
+        "27.0-android",
+        "27.0.1-jre",
+        "27.0.1-android",
+        "27.1-jre",
+        "27.1-android",
+        "28.0-jre",
+        "28.0-android",
+        "28.1-jre",
+        "28.1-android",
+        "28.2-jre",
+        "28.2-android",
+        "29.0-jre",
+        "29.0-android",
+        "30.0-jre",
+        "30.0-android",
+        "30.1-jre",
+        "30.1-android",
+        "30.1.1-jre",
+        "30.1.1-android",
+        "31.0-jre",
+        "31.0-android",
+        "31.0.1-jre",
+        "31.0.1-android",
+        "31.1-jre",
+        "31.1-android",
+        "32.0.0-jre",
+        "32.0.0-android",
+        "32.0.1-jre",
+        "32.0.1-android",
+        "32.1.0-jre",
+        "32.1.0-android",
+        "32.1.1-jre",
+        "32.1.1-android",
+        "32.1.2-jre",
+        "32.1.2-android",
+        "32.1.3-jre",
+        "32.1.3-android",
+        "33.0.0-jre",
+        "33.0.0-android",
+        "33.1.0-jre",
+        "33.1.0-android",
+        "33.2.0-jre",
+        "33.2.0-android",
+        "33.2.1-jre",
+        "33.2.1-android",
+        "33.3.0-jre",
+        "33.3.0-android",
+        "33.3.1-jre",
+        "33.3.1-android"
+    };
+
+    // org.junit.jupiter:junit-jupiter-api
+    static final String[] JUNIT = {
+        "5.0.0-M1",
+        "5.0.0-M2",
+        "5.0.0-M3",
+        "5.0.0-M4",
+        "5.0.0-M5",
+        "5.0.0-M6",
+        "5.0.0-RC1",
+        "5.0.0-RC2",
+        "5.0.0-RC3",
+        "5.0.0",
+        "5.0.1",
+        "5.0.2",
+        "5.0.3",
+        "5.1.0-M1",
+        "5.1.0-M2",
+        "5.1.0-RC1",
+        "5.1.0",
+        "5.1.1",
+        "5.2.0-M1",
+        "5.2.0-RC1",
+        "5.2.0",
+        "5.3.0-M1",
+        "5.3.0-RC1",
+        "5.3.0",
+        "5.3.1",
+        "5.3.2",
+        "5.4.0-M1",
+        "5.4.0-RC1",
+        "5.4.0-RC2",
+        "5.4.0",
+        "5.4.1",
+        "5.4.2",
+        "5.5.0-M1",
+        "5.5.0-RC1",
+        "5.5.0-RC2",
+        "5.5.0",
+        "5.5.1",
+        "5.5.2",
+        "5.6.0-M1",
+        "5.6.0-RC1",
+        "5.6.0",
+        "5.6.1",
+        "5.6.2",
+        "5.6.3",
+        "5.7.0-M1",
+        "5.7.0-RC1",
+        "5.7.0",
+        "5.7.1",
+        "5.7.2",
+        "5.8.0-M1",
+        "5.8.0-RC1",
+        "5.8.0",
+        "5.8.1",
+        "5.8.2",
+        "5.9.0-M1",
+        "5.9.0-RC1",
+        "5.9.0",
+        "5.9.1",
+        "5.9.2",
+        "5.9.3",
+        "5.10.0-M1",
+        "5.10.0-RC1",
+        "5.10.0-RC2",
+        "5.10.0",
+        "5.10.1",
+        "5.10.2",
+        "5.10.3",
+        "5.11.0-M1",
+        "5.11.0-M2",
+        "5.11.0-RC1",
+        "5.11.0",
+        "5.11.1",
+        "5.11.2",
+        "5.11.3"
+    };
+
+    // org.springframework:spring-core
+    static final String[] SPRING = {
+        "1.0.2",
+        "1.1",
+        "1.1.1",
+        "1.2.9",
+        "2.0",
+        "2.0.8",
+        "2.5",
+        "2.5.6",
+        "2.5.6.SEC01",
+        "2.5.6.SEC02",
+        "2.5.6.SEC03",
+        "3.0.0.RELEASE",
+        "3.0.5.RELEASE",
+        "3.1.0.RELEASE",
+        "3.1.4.RELEASE",
+        "3.2.0.RELEASE",
+        "3.2.18.RELEASE",
+        "4.0.0.RELEASE",
+        "4.0.9.RELEASE",
+        "4.1.0.RELEASE",
+        "4.1.9.RELEASE",
+        "4.2.0.RELEASE",
+        "4.2.9.RELEASE",
+        "4.3.0.RELEASE",
+        "4.3.30.RELEASE",
+        "5.0.0.RELEASE",
+        "5.0.20.RELEASE",
+        "5.1.0.RELEASE",
+        "5.1.20.RELEASE",
+        "5.2.0.RELEASE",
+        "5.2.25.RELEASE",
+        "5.3.0",
+        "5.3.9",
+        "5.3.10",
+        "5.3.39",
+        "6.0.0",
+        "6.0.9",
+        "6.0.10",
+        "6.0.23",
+        "6.1.0",
+        "6.1.9",
+        "6.1.10",
+        "6.1.14"
+    };
+
+    // org.apache.maven:maven-core
+    static final String[] MAVEN = {
+        "2.0",
+        "2.0.1",
+        "2.0.9",
+        "2.0.10",
+        "2.0.11",
+        "2.2.0",
+        "2.2.1",
+        "3.0-alpha-2",
+        "3.0-alpha-7",
+        "3.0-beta-1",
+        "3.0-beta-3",
+        "3.0",
+        "3.0.1",
+        "3.0.5",
+        "3.1.0-alpha-1",
+        "3.1.0",
+        "3.1.1",
+        "3.2.1",
+        "3.2.5",
+        "3.3.1",
+        "3.3.9",
+        "3.5.0-alpha-1",
+        "3.5.0-beta-1",
+        "3.5.0",
+        "3.5.4",
+        "3.6.0",
+        "3.6.3",
+        "3.8.1",
+        "3.8.8",
+        "3.9.0",
+        "3.9.9",
+        "4.0.0-alpha-2",
+        "4.0.0-alpha-13",
+        "4.0.0-beta-3",
+        "4.0.0-beta-4",
+        "4.0.0-beta-5",
+        "4.0.0-rc-1",
+        "4.0.0-SNAPSHOT"
+    };
+
+    @State(Scope.Benchmark)
+    public static class VersionsState {
+        List<String> versions;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            versions = Stream.of(GUAVA, JUNIT, SPRING, MAVEN)
+                    .flatMap(Arrays::stream)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            Collections.shuffle(versions, new Random(0));
+        }
+    }
+
+    @Benchmark
+    public List<ComparableVersion> parseAndSort(VersionsState state) {
+        List<ComparableVersion> list = new ArrayList<>(state.versions.size());
+        for (String version : state.versions) {
+            list.add(new ComparableVersion(version));
+        }
+        Collections.sort(list);
+        return list;
+    }
+
+    @Benchmark
+    public List<ComparableVersion> internAndSort(VersionsState state) {
+        List<ComparableVersion> list = new ArrayList<>(state.versions.size());
+        for (String version : state.versions) {
+            list.add(ComparableVersion.of(version));
+        }
+        Collections.sort(list);
+        return list;
+    }
+
+    @Benchmark
+    public int compareParsed(VersionsState state) {
+        List<String> versions = state.versions;
+        int result = 0;
+        for (int i = 1; i < versions.size(); i++) {
+            result += new ComparableVersion(versions.get(i - 1)).compareTo(new ComparableVersion(versions.get(i)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int compareInterned(VersionsState state) {
+        List<String> versions = state.versions;
+        int result = 0;
+        for (int i = 1; i < versions.size(); i++) {
+            result += ComparableVersion.of(versions.get(i - 1)).compareTo(ComparableVersion.of(versions.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ComparableVersionPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -23,6 +23,8 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -402,4 +404,13 @@ public void testMng7714() {
         assertTrue(f.compareTo(sp2) < 0, "expected " + f + " < " + sp2);
         assertTrue(f.compareTo(sp3) < 0, "expected " + f + " < " + sp3);
     }
+
+    @Test
+    void testSharedInstances() {
+        ComparableVersion v1 = ComparableVersion.of("1.0-SNAPSHOT");
+        assertSame(v1, ComparableVersion.of("1.0-SNAPSHOT"));
+        assertEquals(new ComparableVersion("1.0-SNAPSHOT"), v1);
+        assertEquals(0, v1.compareTo(new ComparableVersion("1-snapshot")));
+        assertThrows(UnsupportedOperationException.class, () -> v1.parseVersion("2.0"));
+    }
 }
@@ -24,6 +24,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -37,12 +38,15 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.eventspy.EventSpy;
@@ -51,6 +55,7 @@
 import org.apache.maven.internal.impl.resolver.MavenWorkspaceReader;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.artifact.ProjectArtifact;
+import org.apache.maven.utils.Os;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.WorkspaceRepository;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
@@ -82,6 +87,24 @@ class ReactorReader implements MavenWorkspaceReader {
     private Path projectLocalRepository;
     // projectId -> Deque<lifecycle>
     private final Map<String, Deque<String>> lifecycles = new ConcurrentHashMap<>();
+    // projectId -> fingerprint of the output directory, invalidated when the project's mojos run
+    private final Map<String, OutputFingerprint> outputFingerprints = new ConcurrentHashMap<>();
+    // projectId -> number of invalidations of the fingerprint of the output directory
+    private final Map<String, AtomicLong> outputInvalidations = new ConcurrentHashMap<>();
+    private InstallStrategy installStrategy;
+    private final AtomicLong linkedArtifacts = new AtomicLong();
+    private final AtomicLong bytesAvoided = new AtomicLong();
+
+    /**
+     * The strategies used to install artifacts into the project local repository.
+     * All strategies but {@link #COPY} fall back to a copy when the link or clone can not be created.
+     */
+    enum InstallStrategy {
+        COPY,
+        HARDLINK,
+        SYMLINK,
+        CLONE
+    }
 
     @Inject
     ReactorReader(MavenSession session) {
@@ -218,7 +241,7 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
             return true;
         }
 
-        try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+        try {
             // Not using File#lastModified() to avoid a Linux JDK8 milliseconds precision bug: JDK-8177809.
             long artifactLastModified =
                     Files.getLastModifiedTime(packagedArtifactFile.toPath()).toMillis();
@@ -231,25 +254,17 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
                 }
             }
 
-            for (Path outputFile : (Iterable<Path>) outputFiles::iterator) {
-                if (Files.isDirectory(outputFile)) {
-                    continue;
-                }
-
-                long outputFileLastModified =
-                        Files.getLastModifiedTime(outputFile).toMillis();
-                if (outputFileLastModified > artifactLastModified) {
-                    LOGGER.warn(
-                            "File '{}' is more recent than the packaged artifact for '{}', "
-                                    + "please run a full `mvn package` build",
-                            relativizeOutputFile(outputFile),
-                            project.getArtifactId());
-                    return true;
-                }
+            OutputFingerprint fingerprint = getOutputFingerprint(project, outputDirectory);
+            if (fingerprint.lastModified > artifactLastModified) {
+                LOGGER.warn(
+                        "File '{}' is more recent than the packaged artifact for '{}', "
+                                + "please run a full `mvn package` build",
+                        relativizeOutputFile(fingerprint.newestFile),
+                        project.getArtifactId());
             }
 
             return true;
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.warn(
                     "An I/O error occurred while checking if the packaged artifact is up-to-date "
                             + "against the build output directory. "
@@ -259,6 +274,84 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
         }
     }
 
+    /**
+     * Returns the fingerprint of the output directory of the given project, which is computed once
+     * and kept until the project's own mojos are executed.
+     */
+    OutputFingerprint getOutputFingerprint(MavenProject project, Path outputDirectory) throws IOException {
+        String projectId = project.getId();
+        OutputFingerprint fingerprint = outputFingerprints.get(projectId);
+        if (fingerprint == null) {
+            AtomicLong invalidations = getOutputInvalidations(projectId);
+            long generation = invalidations.get();
+            // walk the directory outside of the map, so that other projects are not blocked meanwhile
+            fingerprint = computeOutputFingerprint(outputDirectory);
+            // do not publish the fingerprint if a mojo of the project started or ended during the walk
+            if (invalidations.get() == generation) {
+                OutputFingerprint existing = outputFingerprints.putIfAbsent(projectId, fingerprint);
+                if (existing != null) {
+                    fingerprint = existing;
+                } else if (invalidations.get() != generation) {
+                    outputFingerprints.remove(projectId, fingerprint);
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    OutputFingerprint computeOutputFingerprint(Path outputDirectory) throws IOException {
+        return OutputFingerprint.compute(outputDirectory);
+    }
+
+    /**
+     * Discards the fingerprint of the output directory of the given project, including the one being computed.
+     */
+    private void invalidateOutputFingerprint(MavenProject project) {
+        String projectId = project.getId();
+        getOutputInvalidations(projectId).incrementAndGet();
+        outputFingerprints.remove(projectId);
+    }
+
+    private AtomicLong getOutputInvalidations(String projectId) {
+        AtomicLong invalidations = outputInvalidations.get(projectId);
+        return invalidations != null
+                ? invalidations
+                : outputInvalidations.computeIfAbsent(projectId, k -> new AtomicLong());
+    }
+
+    /**
+     * The most recently modified file of an output directory.
+     */
+    static final class OutputFingerprint {
+        final Path newestFile;
+        final long lastModified;
+
+        OutputFingerprint(Path newestFile, long lastModified) {
+            this.newestFile = newestFile;
+            this.lastModified = lastModified;
+        }
+
+        static OutputFingerprint compute(Path outputDirectory) throws IOException {
+            Path newestFile = null;
+            long lastModified = Long.MIN_VALUE;
+            try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+                for (Path outputFile : (Iterable<Path>) outputFiles::iterator) {
+                    if (Files.isDirectory(outputFile)) {
+                        continue;
+                    }
+
+                    long outputFileLastModified =
+                            Files.getLastModifiedTime(outputFile).toMillis();
+                    if (outputFileLastModified > lastModified) {
+                        newestFile = outputFile;
+                        lastModified = outputFileLastModified;
+                    }
+                }
+            }
+            return new OutputFingerprint(newestFile, lastModified);
+        }
+    }
+
     private boolean hasBeenPackagedDuringThisSession(MavenProject project) {
         boolean packaged = false;
         for (String phase : getLifecycles(project)) {
@@ -313,6 +406,15 @@ private static boolean isTestArtifact(Artifact artifact) {
 
     private File findInProjectLocalRepository(Artifact artifact) {
         Path target = getArtifactPath(artifact);
+        if (Files.isSymbolicLink(target) && !Files.exists(target)) {
+            // the linked artifact has been deleted, for instance by a clean of its module
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException e) {
+                LOGGER.debug("Unable to delete the dangling link {}", target, e);
+            }
+            return null;
+        }
         return Files.isRegularFile(target) ? target.toFile() : null;
     }
 
@@ -320,7 +422,8 @@ private File findInProjectLocalRepository(Artifact artifact) {
      * We are interested in project success events, in which case we call
      * the {@link #installIntoProjectLocalRepository(MavenProject)} method.
      * The mojo started event is also captured to determine the lifecycle
-     * phases the project has been through.
+     * phases the project has been through, and the mojo events invalidate
+     * the fingerprint of the project's output directory.
      *
      * @param event the execution event
      */
@@ -328,6 +431,7 @@ private void processEvent(ExecutionEvent event) {
         MavenProject project = event.getProject();
         switch (event.getType()) {
             case MojoStarted:
+                invalidateOutputFingerprint(project);
                 String phase = event.getMojoExecution().getLifecyclePhase();
                 if (phase != null) {
                     Deque<String> phases = getLifecycles(project);
@@ -339,10 +443,22 @@ private void processEvent(ExecutionEvent event) {
                     }
                 }
                 break;
+            case MojoSucceeded:
+            case MojoFailed:
+                invalidateOutputFingerprint(project);
+                break;
             case ProjectSucceeded:
             case ForkedProjectSucceeded:
                 installIntoProjectLocalRepository(project);
                 break;
+            case SessionEnded:
+                if (linkedArtifacts.get() > 0) {
+                    LOGGER.info(
+                            "Linked {} artifacts into project local repository, avoided copying {} bytes",
+                            linkedArtifacts.get(),
+                            bytesAvoided.get());
+                }
+                break;
             default:
                 break;
         }
@@ -415,8 +531,18 @@ private boolean isRegularFile(Artifact artifact) {
     private void installIntoProjectLocalRepository(Artifact artifact) {
         Path target = getArtifactPath(artifact);
         try {
-            LOGGER.info("Copying {} to project local repository", artifact);
             Files.createDirectories(target.getParent());
+            InstallStrategy strategy = getInstallStrategy();
+            if (strategy != InstallStrategy.COPY && link(strategy, artifact.getPath(), target)) {
+                LOGGER.info(
+                        "Linking {} to project local repository ({})",
+                        artifact,
+                        strategy.name().toLowerCase(Locale.ENGLISH));
+                linkedArtifacts.incrementAndGet();
+                bytesAvoided.addAndGet(Files.size(artifact.getPath()));
+                return;
+            }
+            LOGGER.info("Copying {} to project local repository", artifact);
             Files.copy(
                     artifact.getPath(),
                     target,
@@ -427,6 +553,74 @@ private void installIntoProjectLocalRepository(Artifact artifact) {
         }
     }
 
+    private boolean link(InstallStrategy strategy, Path source, Path target) {
+        try {
+            Files.deleteIfExists(target);
+            switch (strategy) {
+                case HARDLINK:
+                    Files.createLink(target, source);
+                    return true;
+                case SYMLINK:
+                    Files.createSymbolicLink(target, source.toAbsolutePath());
+                    return true;
+                case CLONE:
+                    return cloneFile(source, target);
+                default:
+                    return false;
+            }
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            LOGGER.debug("Unable to link {} to {}, falling back to copy", source, target, e);
+            return false;
+        }
+    }
+
+    /**
+     * Creates a copy-on-write clone of the source file, which is only supported by some file systems
+     * (for example btrfs or xfs on Linux, and apfs on macOS).
+     */
+    private static boolean cloneFile(Path source, Path target) throws IOException {
+        List<String> command;
+        if (Os.OS_NAME.contains("linux")) {
+            command = Arrays.asList("cp", "--reflink=always", source.toString(), target.toString());
+        } else if (Os.OS_NAME.contains("mac")) {
+            command = Arrays.asList("cp", "-c", source.toString(), target.toString());
+        } else {
+            return false;
+        }
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            if (process.waitFor() == 0) {
+                return true;
+            }
+            Files.deleteIfExists(target);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+            return false;
+        }
+    }
+
+    private InstallStrategy getInstallStrategy() {
+        if (installStrategy == null) {
+            String strategy = session.getUserProperties()
+                    .getProperty(Constants.MAVEN_PROJECT_LOCAL_REPO_INSTALL_STRATEGY, "copy");
+            try {
+                installStrategy = InstallStrategy.valueOf(strategy.toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn(
+                        "Unknown {} value '{}', using copy",
+                        Constants.MAVEN_PROJECT_LOCAL_REPO_INSTALL_STRATEGY,
+                        strategy);
+                installStrategy = InstallStrategy.COPY;
+            }
+        }
+        return installStrategy;
+    }
+
     private Path getArtifactPath(Artifact artifact) {
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
@@ -71,6 +71,12 @@ public class DefaultClassRealmManager implements ClassRealmManager {
      */
     private static final ClassLoader PARENT_CLASSLOADER = ClassWorld.class.getClassLoader();
 
+    /**
+     * The number of foreign imports from which a realm looks them up in an index of the imported packages, rather
+     * than matching each class and resource against all of them. Below, matching them in turn is as fast.
+     */
+    private static final int INDEXED_IMPORTS_THRESHOLD = 16;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final ClassWorld world;
@@ -332,13 +338,23 @@ private void wireRealm(ClassRealm classRealm, List<String> parentImports, Map<St
         if (foreignImports != null && !foreignImports.isEmpty()) {
             logger.debug("Importing foreign packages into class realm {}", classRealm.getId());
 
+            boolean indexed = foreignImports.size() >= INDEXED_IMPORTS_THRESHOLD;
+
             for (Map.Entry<String, ClassLoader> entry : foreignImports.entrySet()) {
                 ClassLoader importedRealm = entry.getValue();
                 String imp = entry.getKey();
 
                 logger.debug("  Imported: {} < {}", imp, getId(importedRealm));
 
-                classRealm.importFrom(importedRealm, imp);
+                if (!indexed) {
+                    classRealm.importFrom(importedRealm, imp);
+                }
+            }
+
+            if (indexed) {
+                logger.debug("  Indexed {} foreign imports", foreignImports.size());
+
+                classRealm.importFrom(new ForeignImportsRealm(world, classRealm.getId(), foreignImports), "");
             }
         }
 
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+/**
+ * A realm delegating to the class loaders of the foreign imports of another realm, which are looked up in an index
+ * of the imported packages instead of being matched one after the other by the realm. The imports are also
+ * registered as the imports of this realm, so that the imported realms remain visible to the container.
+ * <p>
+ * The imports follow the rules of {@link ClassRealm#importFrom(ClassLoader, String)}: an import ending with
+ * {@code .*} matches the classes and resources of its package only, the empty import matches everything, and any
+ * other import matches the classes and resources of its package and subpackages, or a class and its nested classes.
+ * When several imports match, the realm uses the greatest one in lexicographic order, and so does this index.
+ * Classes and resources which are not imported are neither found, so that the realm falls back to itself and its
+ * parent.
+ */
+class ForeignImportsRealm extends ClassRealm {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private static final String WILDCARD = ".*";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Map<String, ClassLoader> imports;
+
+    ForeignImportsRealm(ClassWorld world, String realmId, Map<String, ClassLoader> imports) {
+        super(world, realmId + ">imports", null);
+        this.imports = new HashMap<>(imports);
+        imports.forEach((imp, importClassLoader) -> importFrom(importClassLoader, imp));
+    }
+
+    /**
+     * Gets the class loader imported for the given class or resource.
+     *
+     * @param name The binary name of a class, or the name of a resource, must not be {@code null}.
+     * @return The imported class loader, or {@code null} if the class or resource is not imported.
+     */
+    @Override
+    public ClassLoader getImportClassLoader(String name) {
+        String match = matches("", null);
+        boolean resource = name.indexOf('/') >= 0;
+        if (resource) {
+            int index = name.lastIndexOf('/');
+            match = matches(name.substring(0, index).replace('/', '.') + WILDCARD, match);
+            match = matches(name, match);
+            if (name.endsWith(CLASS_SUFFIX)) {
+                match = matchesPath(name.substring(0, name.length() - CLASS_SUFFIX.length()), match);
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '/' || c == '$') {
+                    match = matchesPath(name.substring(0, i), match);
+                }
+            }
+        } else {
+            int index = name.lastIndexOf('.');
+            match = matches((index < 0 ? "" : name.substring(0, index)) + WILDCARD, match);
+            match = matches(name, match);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '.' || c == '$') {
+                    match = matches(name.substring(0, i), match);
+                }
+            }
+        }
+        return match != null ? imports.get(match) : null;
+    }
+
+    /**
+     * Returns the given import if it exists and is greater than the current match, or the current match otherwise.
+     */
+    private String matches(String imp, String match) {
+        return (match == null || imp.compareTo(match) > 0) && imports.containsKey(imp) ? imp : match;
+    }
+
+    /**
+     * Matches the import of a package given as a path, whose separators are the only dots the import may contain.
+     */
+    private String matchesPath(String path, String match) {
+        return path.indexOf('.') < 0 ? matches(path.replace('/', '.'), match) : match;
+    }
+
+    @Override
+    public Class<?> loadClass(String name) throws ClassNotFoundException {
+        return loadClass(name, false);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        if (importClassLoader == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return importClassLoader.loadClass(name);
+    }
+
+    @Override
+    public URL getResource(String name) {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        return importClassLoader != null ? importClassLoader.getResource(name) : null;
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        return importClassLoader != null ? importClassLoader.getResources(name) : Collections.emptyEnumeration();
+    }
+}
@@ -46,4 +46,17 @@ public BuildSuccess(MavenProject project, long time) {
     public BuildSuccess(MavenProject project, long wallTime, long execTime) {
         super(project, wallTime, execTime);
     }
+
+    /**
+     * Creates a new build summary for the specified project.
+     *
+     * @param project The project being summarized, must not be {@code null}.
+     * @param wallTime The wall time of the project in milliseconds.
+     * @param execTime The exec time of the project in milliseconds.
+     * @param blockedTime The time spent by the mojos waiting for concurrently running mojos in milliseconds.
+     * @since 4.0.0
+     */
+    public BuildSuccess(MavenProject project, long wallTime, long execTime, long blockedTime) {
+        super(project, wallTime, execTime, blockedTime);
+    }
 }
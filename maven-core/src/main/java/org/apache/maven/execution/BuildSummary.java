@@ -43,6 +43,11 @@ public abstract class BuildSummary {
      */
     private final long execTime;
 
+    /**
+     * The time spent by the mojos waiting for concurrently running mojos in milliseconds.
+     */
+    private final long blockedTime;
+
     /**
      * Creates a new build summary for the specified project.
      *
@@ -61,10 +66,24 @@ protected BuildSummary(MavenProject project, long time) {
      * @param wallTime The wall time of the project in milliseconds.
      */
     protected BuildSummary(MavenProject project, long execTime, long wallTime) {
+        this(project, execTime, wallTime, 0);
+    }
+
+    /**
+     * Creates a new build summary for the specified project.
+     *
+     * @param project The project being summarized, must not be {@code null}.
+     * @param execTime The exec time of the project in milliseconds.
+     * @param wallTime The wall time of the project in milliseconds.
+     * @param blockedTime The time spent by the mojos waiting for concurrently running mojos in milliseconds.
+     * @since 4.0.0
+     */
+    protected BuildSummary(MavenProject project, long execTime, long wallTime, long blockedTime) {
         this.project = Objects.requireNonNull(project, "project cannot be null");
         // TODO Validate for < 0?
         this.execTime = execTime;
         this.wallTime = wallTime;
+        this.blockedTime = blockedTime;
     }
 
     /**
@@ -93,4 +112,15 @@ public long getTime() {
     public long getWallTime() {
         return wallTime;
     }
+
+    /**
+     * Gets the time spent by the mojos of the project waiting for concurrently running mojos, such as
+     * aggregating mojos, in milliseconds.
+     *
+     * @return The blocked time of the project in milliseconds.
+     * @since 4.0.0
+     */
+    public long getBlockedTime() {
+        return blockedTime;
+    }
 }
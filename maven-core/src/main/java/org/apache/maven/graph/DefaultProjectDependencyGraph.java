@@ -19,16 +19,14 @@
 package org.apache.maven.graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.project.CycleDetectedException;
@@ -38,7 +36,10 @@
 
 /**
  * Describes the interdependencies between projects in the reactor.
- *
+ * <p>
+ * The projects are indexed in their build order and the direct dependencies between them are kept as arrays of
+ * indexes. The transitive upstream and downstream projects of all the projects are computed once, when first
+ * requested, as bit sets, so that the queries only iterate over their results, already sorted.
  */
 public class DefaultProjectDependencyGraph implements ProjectDependencyGraph {
 
@@ -46,9 +47,23 @@ public class DefaultProjectDependencyGraph implements ProjectDependencyGraph {
 
     private final List<MavenProject> allProjects;
 
-    private final Map<MavenProject, Integer> order;
+    private final List<MavenProject> sortedProjects;
+
+    private final Map<String, Integer> indexes;
 
-    private final Map<String, MavenProject> projects;
+    /**
+     * The indexes of the direct upstream projects of each project, in build order.
+     */
+    private final int[][] upstreamProjects;
+
+    /**
+     * The indexes of the direct downstream projects of each project, in build order.
+     */
+    private final int[][] downstreamProjects;
+
+    private volatile BitSet[] transitiveUpstreamProjects;
+
+    private volatile BitSet[] transitiveDownstreamProjects;
 
     /**
      * Creates a new project dependency graph based on the specified projects.
@@ -91,17 +106,30 @@ public DefaultProjectDependencyGraph(Collection<MavenProject> allProjects, Colle
             throws CycleDetectedException, DuplicateProjectException {
         this.allProjects = Collections.unmodifiableList(new ArrayList<>(allProjects));
         this.sorter = new ProjectSorter(projects);
-        this.order = new HashMap<>();
-        this.projects = new HashMap<>();
-        List<MavenProject> sorted = this.sorter.getSortedProjects();
-        for (int index = 0; index < sorted.size(); index++) {
-            MavenProject project = sorted.get(index);
-            String id = ProjectSorter.getId(project);
-            this.projects.put(id, project);
-            this.order.put(project, index);
+        this.sortedProjects = this.sorter.getSortedProjects();
+        int size = sortedProjects.size();
+        this.indexes = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            this.indexes.put(ProjectSorter.getId(sortedProjects.get(index)), index);
+        }
+        this.upstreamProjects = new int[size][];
+        this.downstreamProjects = new int[size][];
+        for (int index = 0; index < size; index++) {
+            String id = ProjectSorter.getId(sortedProjects.get(index));
+            this.upstreamProjects[index] = toIndexes(sorter.getDependencies(id));
+            this.downstreamProjects[index] = toIndexes(sorter.getDependents(id));
         }
     }
 
+    private int[] toIndexes(List<String> projectIds) {
+        int[] result = new int[projectIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indexes.get(projectIds.get(i));
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
     /**
      * @since 3.5.0
      */
@@ -110,54 +138,100 @@ public List<MavenProject> getAllProjects() {
     }
 
     public List<MavenProject> getSortedProjects() {
-        return new ArrayList<>(sorter.getSortedProjects());
+        return new ArrayList<>(sortedProjects);
     }
 
     public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
         Objects.requireNonNull(project, "project cannot be null");
 
-        Set<String> projectIds = new HashSet<>();
+        Integer index = indexes.get(ProjectSorter.getId(project));
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        if (transitive) {
+            return getSortedProjects(getTransitiveDownstreamProjects()[index]);
+        } else {
+            return getSortedProjects(downstreamProjects[index]);
+        }
+    }
 
-        getDownstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
+    public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
+        Objects.requireNonNull(project, "project cannot be null");
 
-        return getSortedProjects(projectIds);
+        Integer index = indexes.get(ProjectSorter.getId(project));
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        if (transitive) {
+            return getSortedProjects(getTransitiveUpstreamProjects()[index]);
+        } else {
+            return getSortedProjects(upstreamProjects[index]);
+        }
     }
 
-    private void getDownstreamProjects(String projectId, Set<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependents(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getDownstreamProjects(id, projectIds, transitive);
+    private BitSet[] getTransitiveUpstreamProjects() {
+        BitSet[] result = transitiveUpstreamProjects;
+        if (result == null) {
+            synchronized (this) {
+                result = transitiveUpstreamProjects;
+                if (result == null) {
+                    // the upstream projects of a project come before it in the build order
+                    result = new BitSet[upstreamProjects.length];
+                    for (int index = 0; index < result.length; index++) {
+                        result[index] = closure(upstreamProjects[index], result);
+                    }
+                    transitiveUpstreamProjects = result;
+                }
             }
         }
+        return result;
     }
 
-    public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
-        Objects.requireNonNull(project, "project cannot be null");
-
-        Set<String> projectIds = new HashSet<>();
-
-        getUpstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
+    private BitSet[] getTransitiveDownstreamProjects() {
+        BitSet[] result = transitiveDownstreamProjects;
+        if (result == null) {
+            synchronized (this) {
+                result = transitiveDownstreamProjects;
+                if (result == null) {
+                    // the downstream projects of a project come after it in the build order
+                    result = new BitSet[downstreamProjects.length];
+                    for (int index = result.length - 1; index >= 0; index--) {
+                        result[index] = closure(downstreamProjects[index], result);
+                    }
+                    transitiveDownstreamProjects = result;
+                }
+            }
+        }
+        return result;
+    }
 
-        return getSortedProjects(projectIds);
+    private static BitSet closure(int[] projects, BitSet[] closures) {
+        BitSet closure = new BitSet();
+        for (int project : projects) {
+            closure.set(project);
+            closure.or(closures[project]);
+        }
+        return closure;
     }
 
-    private void getUpstreamProjects(String projectId, Collection<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependencies(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getUpstreamProjects(id, projectIds, transitive);
-            }
+    private List<MavenProject> getSortedProjects(int[] projectIndexes) {
+        List<MavenProject> result = new ArrayList<>(projectIndexes.length);
+        for (int index : projectIndexes) {
+            result.add(sortedProjects.get(index));
         }
+        return result;
     }
 
-    private List<MavenProject> getSortedProjects(Set<String> projectIds) {
-        return projectIds.stream()
-                .map(projects::get)
-                .sorted(Comparator.comparingInt(order::get))
-                .collect(Collectors.toList());
+    private List<MavenProject> getSortedProjects(BitSet projectIndexes) {
+        List<MavenProject> result = new ArrayList<>(projectIndexes.cardinality());
+        for (int index = projectIndexes.nextSetBit(0); index >= 0; index = projectIndexes.nextSetBit(index + 1)) {
+            result.add(sortedProjects.get(index));
+        }
+        return result;
     }
 
     @Override
     public String toString() {
-        return sorter.getSortedProjects().toString();
+        return sortedProjects.toString();
     }
 }
@@ -198,24 +198,10 @@ public Set<Artifact> resolveProjectArtifacts(
         ProjectArtifactsCache.Key cacheKey = projectArtifactsCache.createKey(
                 project, scopesToCollect, scopesToResolve, aggregating, session.getRepositorySession());
 
-        ProjectArtifactsCache.CacheRecord recordArtifacts;
-        recordArtifacts = projectArtifactsCache.get(cacheKey);
-        if (recordArtifacts == null) {
-            synchronized (cacheKey) {
-                recordArtifacts = projectArtifactsCache.get(cacheKey);
-                if (recordArtifacts == null) {
-                    try {
-                        Set<Artifact> resolvedArtifacts = getDependencies(
-                                project, scopesToCollect, scopesToResolve, session, aggregating, projectArtifacts);
-                        recordArtifacts = projectArtifactsCache.put(cacheKey, resolvedArtifacts);
-                    } catch (LifecycleExecutionException e) {
-                        projectArtifactsCache.put(cacheKey, e);
-                        projectArtifactsCache.register(project, cacheKey, recordArtifacts);
-                        throw e;
-                    }
-                }
-            }
-        }
+        ProjectArtifactsCache.CacheRecord recordArtifacts = projectArtifactsCache.computeIfAbsent(
+                cacheKey,
+                () -> getDependencies(
+                        project, scopesToCollect, scopesToResolve, session, aggregating, projectArtifacts));
         projectArtifactsCache.register(project, cacheKey, recordArtifacts);
 
         return recordArtifacts.getArtifacts();
@@ -111,7 +111,14 @@ public void buildProject(
             projectExecutionListener.afterProjectExecutionSuccess(
                     new ProjectExecutionEvent(session, currentProject, mojoExecutions));
 
-            reactorContext.getResult().addBuildSummary(new BuildSuccess(currentProject, buildEndTime - buildStartTime));
+            long buildTime = buildEndTime - buildStartTime;
+            reactorContext
+                    .getResult()
+                    .addBuildSummary(new BuildSuccess(
+                            currentProject,
+                            buildTime,
+                            buildTime,
+                            mojoExecutor.getBlockedTime(session, currentProject)));
 
             eventCatapult.fire(ExecutionEvent.Type.ProjectSucceeded, session, null);
         } catch (Throwable t) {
@@ -32,6 +32,9 @@
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -76,18 +79,13 @@ public class MojoExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MojoExecutor.class);
     private static final SessionData.Key<ProjectIndex> PROJECT_INDEX = SessionData.key(ProjectIndex.class);
-
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static final SessionData.Key<Map<MavenProject, OwnerReentrantLock>> PROJECT_LOCKS =
-            (SessionData.Key) SessionData.key(Map.class, ProjectLock.class);
+    private static final SessionData.Key<ReactorLocks> REACTOR_LOCKS = SessionData.key(ReactorLocks.class);
 
     private final BuildPluginManager pluginManager;
     private final MavenPluginManager mavenPluginManager;
     private final LifecycleDependencyResolver lifeCycleDependencyResolver;
     private final ExecutionEventCatapult eventCatapult;
 
-    private final OwnerReentrantReadWriteLock aggregatorLock = new OwnerReentrantReadWriteLock();
-
     private final Provider<MojosExecutionStrategy> mojosExecutionStrategy;
 
     private final MessageBuilderFactory messageBuilderFactory;
@@ -235,9 +233,13 @@ protected class ProjectLock implements NoExceptionCloseable {
 
         ProjectLock(MavenSession session, MojoDescriptor mojoDescriptor) {
             mojos.put(Thread.currentThread(), mojoDescriptor);
+            ReactorLocks locks = getReactorLocks(session);
+            StripedReadWriteLock aggregatorLock = locks.aggregatorLock;
+            ProjectLockState projectLockState = locks.getProjectLock(session.getCurrentProject());
             boolean aggregator = mojoDescriptor.isAggregator();
             acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
-            acquiredProjectLock = getProjectLock(session);
+            acquiredProjectLock = projectLockState.lock;
+            long blockedTime = 0;
             if (!acquiredAggregatorLock.tryLock()) {
                 Thread owner = aggregatorLock.getOwner();
                 MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
@@ -247,7 +249,9 @@ protected class ProjectLock implements NoExceptionCloseable {
                         + "reactor to prevent race conditions. This mojo execution will be blocked "
                         + "until the aggregator mojo is done.";
                 warn(msg);
+                long start = System.nanoTime();
                 acquiredAggregatorLock.lock();
+                blockedTime += System.nanoTime() - start;
             }
             if (!acquiredProjectLock.tryLock()) {
                 Thread owner = acquiredProjectLock.getOwner();
@@ -259,7 +263,16 @@ protected class ProjectLock implements NoExceptionCloseable {
                         + "This mojo execution will be blocked "
                         + "until the mojo is done.";
                 warn(msg);
+                long start = System.nanoTime();
                 acquiredProjectLock.lock();
+                blockedTime += System.nanoTime() - start;
+            }
+            if (blockedTime > 0) {
+                projectLockState.blockedTime.addAndGet(blockedTime);
+                LOGGER.debug(
+                        "Mojo {} was blocked for {} ms",
+                        mojoDescriptor.getId(),
+                        TimeUnit.NANOSECONDS.toMillis(blockedTime));
             }
         }
 
@@ -270,11 +283,166 @@ public void close() {
             acquiredAggregatorLock.unlock();
             mojos.remove(Thread.currentThread());
         }
+    }
+
+    private static ReactorLocks getReactorLocks(MavenSession session) {
+        SessionData data = session.getSession().getData();
+        ReactorLocks locks = data.get(REACTOR_LOCKS);
+        if (locks == null) {
+            locks = data.computeIfAbsent(REACTOR_LOCKS, () -> new ReactorLocks(session));
+        }
+        return locks;
+    }
+
+    /**
+     * Gets the time spent by the mojo executions of the given project waiting for the locks guarding the
+     * aggregating mojo executions and the project.
+     *
+     * @param session the session
+     * @param project the project
+     * @return the blocked time in milliseconds
+     * @since 4.0.0
+     */
+    public long getBlockedTime(MavenSession session, MavenProject project) {
+        if (!useProjectLock(session)) {
+            return 0;
+        }
+        ReactorLocks locks = session.getSession().getData().get(REACTOR_LOCKS);
+        ProjectLockState state = locks != null ? locks.projectLocks.get(project) : null;
+        return state != null ? TimeUnit.NANOSECONDS.toMillis(state.blockedTime.get()) : 0;
+    }
+
+    /**
+     * The locks of a session, created once for all the projects of the reactor.
+     */
+    static class ReactorLocks {
+        final StripedReadWriteLock aggregatorLock;
+        final Map<MavenProject, ProjectLockState> projectLocks = new ConcurrentHashMap<>();
+
+        ReactorLocks(MavenSession session) {
+            aggregatorLock = new StripedReadWriteLock(session.getRequest().getDegreeOfConcurrency());
+            List<MavenProject> projects = session.getProjects();
+            if (projects != null) {
+                for (MavenProject project : projects) {
+                    projectLocks.put(project, new ProjectLockState());
+                }
+            }
+        }
+
+        ProjectLockState getProjectLock(MavenProject project) {
+            ProjectLockState state = projectLocks.get(project);
+            return state != null ? state : projectLocks.computeIfAbsent(project, p -> new ProjectLockState());
+        }
+    }
+
+    static class ProjectLockState {
+        final OwnerReentrantLock lock = new OwnerReentrantLock();
+        final AtomicLong blockedTime = new AtomicLong();
+    }
+
+    /**
+     * A read-write lock split into several stripes, so that the concurrent non aggregating mojo executions do not
+     * all update the read count of a single lock. The read lock is the read lock of the stripe selected by
+     * the current thread, the write lock acquires the write locks of all the stripes, in order.
+     */
+    static class StripedReadWriteLock {
+        private final OwnerReentrantReadWriteLock[] stripes;
+        private final Lock writeLock = new WriteLock();
+
+        StripedReadWriteLock(int stripes) {
+            this.stripes = new OwnerReentrantReadWriteLock[Math.max(1, stripes)];
+            for (int i = 0; i < this.stripes.length; i++) {
+                this.stripes[i] = new OwnerReentrantReadWriteLock();
+            }
+        }
+
+        Lock readLock() {
+            int stripe = Math.floorMod(System.identityHashCode(Thread.currentThread()), stripes.length);
+            return stripes[stripe].readLock();
+        }
+
+        Lock writeLock() {
+            return writeLock;
+        }
+
+        Thread getOwner() {
+            for (OwnerReentrantReadWriteLock stripe : stripes) {
+                Thread owner = stripe.getOwner();
+                if (owner != null) {
+                    return owner;
+                }
+            }
+            return null;
+        }
 
-        private OwnerReentrantLock getProjectLock(MavenSession session) {
-            SessionData data = session.getSession().getData();
-            Map<MavenProject, OwnerReentrantLock> locks = data.computeIfAbsent(PROJECT_LOCKS, ConcurrentHashMap::new);
-            return locks.computeIfAbsent(session.getCurrentProject(), p -> new OwnerReentrantLock());
+        private class WriteLock implements Lock {
+            @Override
+            public void lock() {
+                for (OwnerReentrantReadWriteLock stripe : stripes) {
+                    stripe.writeLock().lock();
+                }
+            }
+
+            @Override
+            public void lockInterruptibly() throws InterruptedException {
+                int locked = 0;
+                try {
+                    for (; locked < stripes.length; locked++) {
+                        stripes[locked].writeLock().lockInterruptibly();
+                    }
+                } finally {
+                    if (locked < stripes.length) {
+                        unlock(locked);
+                    }
+                }
+            }
+
+            @Override
+            public boolean tryLock() {
+                for (int i = 0; i < stripes.length; i++) {
+                    if (!stripes[i].writeLock().tryLock()) {
+                        unlock(i);
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+                long deadline = System.nanoTime() + unit.toNanos(time);
+                int locked = 0;
+                try {
+                    for (; locked < stripes.length; locked++) {
+                        long remaining = deadline - System.nanoTime();
+                        if (!stripes[locked].writeLock().tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                } finally {
+                    if (locked < stripes.length) {
+                        unlock(locked);
+                    }
+                }
+            }
+
+            @Override
+            public void unlock() {
+                unlock(stripes.length);
+            }
+
+            private void unlock(int count) {
+                // release the stripes in the reverse order of the acquisition
+                for (int i = count - 1; i >= 0; i--) {
+                    stripes[i].writeLock().unlock();
+                }
+            }
+
+            @Override
+            public Condition newCondition() {
+                throw new UnsupportedOperationException();
+            }
         }
     }
 
@@ -19,10 +19,14 @@
 package org.apache.maven.lifecycle.internal.builder.multithreaded;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
@@ -33,6 +37,11 @@
  * <p>
  * Presents a view of the Dependency Graph that is suited for concurrent building.
  * </p>
+ * <p>
+ * The direct dependencies between the projects are read once from the {@link ProjectDependencyGraph} and kept
+ * in an int-indexed adjacency structure, along with the number of unfinished upstream projects of each project,
+ * so that marking a project as finished only visits its direct downstream projects and does not need any lock.
+ * </p>
  * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
  *
  * @since 3.0
@@ -43,11 +52,77 @@ public class ConcurrencyDependencyGraph {
 
     private final ProjectDependencyGraph projectDependencyGraph;
 
-    private final Set<MavenProject> finishedProjects = new HashSet<>();
+    /**
+     * The index of the projects, the projects of the build list first.
+     */
+    private final Map<MavenProject, Integer> indexes = new HashMap<>();
+
+    private final List<MavenProject> projects = new ArrayList<>();
+
+    /**
+     * The indexes of the direct downstream projects of each project.
+     */
+    private final int[][] downstreamProjects;
+
+    /**
+     * The number of unfinished direct upstream projects of each project.
+     */
+    private final AtomicIntegerArray remainingUpstreamProjects;
+
+    /**
+     * Whether each project is finished, {@code 1} if it is.
+     */
+    private final AtomicIntegerArray finishedProjects;
 
     public ConcurrencyDependencyGraph(ProjectBuildList projectBuilds, ProjectDependencyGraph projectDependencyGraph) {
         this.projectDependencyGraph = projectDependencyGraph;
         this.projectBuilds = projectBuilds;
+
+        for (ProjectSegment projectBuild : projectBuilds) {
+            index(projectBuild.getProject());
+        }
+        // upstream projects outside the build list are indexed too, as they are never finished
+        List<int[]> upstreamProjects = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            List<MavenProject> upstream = projectDependencyGraph.getUpstreamProjects(projects.get(i), false);
+            int[] upstreamIndexes = new int[upstream.size()];
+            for (int j = 0; j < upstreamIndexes.length; j++) {
+                upstreamIndexes[j] = index(upstream.get(j));
+            }
+            upstreamProjects.add(upstreamIndexes);
+        }
+
+        int size = projects.size();
+        int[] downstreamCounts = new int[size];
+        for (int[] upstream : upstreamProjects) {
+            for (int u : upstream) {
+                downstreamCounts[u]++;
+            }
+        }
+        downstreamProjects = new int[size][];
+        for (int i = 0; i < size; i++) {
+            downstreamProjects[i] = new int[downstreamCounts[i]];
+            downstreamCounts[i] = 0;
+        }
+        remainingUpstreamProjects = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            int[] upstream = upstreamProjects.get(i);
+            remainingUpstreamProjects.set(i, upstream.length);
+            for (int u : upstream) {
+                downstreamProjects[u][downstreamCounts[u]++] = i;
+            }
+        }
+        finishedProjects = new AtomicIntegerArray(size);
+    }
+
+    private int index(MavenProject project) {
+        Integer index = indexes.get(project);
+        if (index == null) {
+            index = projects.size();
+            indexes.put(project, index);
+            projects.add(project);
+        }
+        return index;
     }
 
     public int getNumberOfBuilds() {
@@ -82,29 +157,35 @@ public List<MavenProject> getRootSchedulableBuilds() {
      * @return The list of builds that are eligible for starting now that the provided project is done
      */
     public List<MavenProject> markAsFinished(MavenProject mavenProject) {
-        finishedProjects.add(mavenProject);
-        return getSchedulableNewProcesses(mavenProject);
+        Integer index = indexes.get(mavenProject);
+        if (index == null || !finishedProjects.compareAndSet(index, 0, 1)) {
+            return Collections.emptyList();
+        }
+        return getSchedulableNewProcesses(index);
     }
 
-    private List<MavenProject> getSchedulableNewProcesses(MavenProject finishedProject) {
+    private List<MavenProject> getSchedulableNewProcesses(int finishedProject) {
         List<MavenProject> result = new ArrayList<>();
         // schedule dependent projects, if all of their requirements are met
-        for (MavenProject dependentProject : projectDependencyGraph.getDownstreamProjects(finishedProject, false)) {
-            final List<MavenProject> upstreamProjects =
-                    projectDependencyGraph.getUpstreamProjects(dependentProject, false);
-            if (finishedProjects.containsAll(upstreamProjects)) {
-                result.add(dependentProject);
+        for (int dependentProject : downstreamProjects[finishedProject]) {
+            if (remainingUpstreamProjects.decrementAndGet(dependentProject) == 0) {
+                result.add(projects.get(dependentProject));
             }
         }
         return result;
     }
 
+    private boolean isFinished(MavenProject project) {
+        Integer index = indexes.get(project);
+        return index != null && finishedProjects.get(index) == 1;
+    }
+
     /**
      * @return set of projects that have yet to be processed successfully by the build.
      */
     public Set<MavenProject> getUnfinishedProjects() {
         Set<MavenProject> unfinished = new HashSet<>(projectBuilds.getProjects());
-        unfinished.removeAll(finishedProjects);
+        unfinished.removeIf(this::isFinished);
         return unfinished;
     }
 
@@ -112,7 +193,13 @@ public Set<MavenProject> getUnfinishedProjects() {
      * @return set of projects that have been successfully processed by the build.
      */
     protected Set<MavenProject> getFinishedProjects() {
-        return finishedProjects;
+        Set<MavenProject> finished = new LinkedHashSet<>();
+        for (int i = 0; i < projects.size(); i++) {
+            if (finishedProjects.get(i) == 1) {
+                finished.add(projects.get(i));
+            }
+        }
+        return finished;
     }
 
     protected ProjectBuildList getProjectBuilds() {
@@ -136,8 +223,8 @@ protected List<MavenProject> getDependencies(MavenProject p) {
      * @return List of uncompleted prerequisite projects
      */
     public List<MavenProject> getActiveDependencies(MavenProject p) {
-        List<MavenProject> activeDependencies = projectDependencyGraph.getUpstreamProjects(p, false);
-        activeDependencies.removeAll(finishedProjects);
+        List<MavenProject> activeDependencies = new ArrayList<>(projectDependencyGraph.getUpstreamProjects(p, false));
+        activeDependencies.removeIf(this::isFinished);
         return activeDependencies;
     }
 }
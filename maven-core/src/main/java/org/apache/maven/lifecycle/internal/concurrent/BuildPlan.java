@@ -64,10 +64,12 @@ public Stream<MavenProject> projects() {
 
     public void addProject(MavenProject project, Map<String, BuildStep> steps) {
         plan.put(project, steps);
+        sortedNodes = null;
     }
 
     public void addStep(MavenProject project, String name, BuildStep step) {
         plan.get(project).put(name, step);
+        sortedNodes = null;
     }
 
     public Stream<BuildStep> allSteps() {
@@ -92,6 +94,7 @@ public BuildStep requiredStep(MavenProject project, String name) {
     public void then(BuildPlan step) {
         step.plan.forEach((k, v) -> plan.merge(k, v, this::merge));
         aliases.putAll(step.aliases);
+        sortedNodes = null;
     }
 
     private Map<String, BuildStep> merge(Map<String, BuildStep> org, Map<String, BuildStep> add) {
@@ -23,7 +23,10 @@
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -33,13 +36,13 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Lifecycle;
 import org.apache.maven.api.services.LifecycleRegistry;
 import org.apache.maven.api.services.MavenException;
@@ -167,6 +170,8 @@ class BuildContext implements AutoCloseable {
         final Map<Object, Clock> clocks = new ConcurrentHashMap<>();
         final ReadWriteLock lock = new ReentrantReadWriteLock();
         final int threads;
+        final boolean readyQueue;
+        final BuildStepDurations durations;
         BuildPlan plan;
 
         BuildContext(MavenSession session, ReactorContext reactorContext, List<TaskSegment> taskSegments) {
@@ -177,8 +182,14 @@ class BuildContext implements AutoCloseable {
                     session.getProjects().size());
             // Propagate the parallel flag to the root session
             session.setParallel(threads > 1);
-            this.executor = new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
-            this.appender = new ConcurrentLogOutput();
+            this.executor = PhasingExecutor.prioritized(threads, new BuildThreadFactory());
+            this.appender = createLogOutput(session);
+            this.readyQueue =
+                    "queue".equals(session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_SCHEDULER, "scan"));
+            this.durations =
+                    Boolean.parseBoolean(session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_CRITICAL_PATH))
+                            ? BuildStepDurations.load(getDurationsFile(session))
+                            : null;
 
             // build initial plan
             this.plan = buildInitialPlan(taskSegments);
@@ -188,6 +199,8 @@ class BuildContext implements AutoCloseable {
             this.session = null;
             this.reactorContext = null;
             this.threads = 1;
+            this.readyQueue = false;
+            this.durations = null;
             this.executor = null;
             this.appender = null;
             this.plan = null;
@@ -239,6 +252,38 @@ public BuildPlan buildInitialPlan(List<TaskSegment> taskSegments) {
             return plan;
         }
 
+        private ConcurrentLogOutput createLogOutput(MavenSession session) {
+            boolean live =
+                    "live".equals(session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_OUTPUT, "buffered"));
+            int bufferSize = ConcurrentLogOutput.DEFAULT_BUFFER_SIZE;
+            try {
+                String str = session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_OUTPUT_BUFFER_SIZE);
+                if (str != null) {
+                    bufferSize = Integer.parseInt(str);
+                }
+            } catch (NumberFormatException e) {
+                // ignore
+            }
+            return new ConcurrentLogOutput(live, bufferSize);
+        }
+
+        private Path getDurationsFile(MavenSession session) {
+            String file = session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_DURATIONS);
+            if (file != null) {
+                Path baseDirectory;
+                try {
+                    baseDirectory = session.getRootDirectory();
+                } catch (IllegalStateException e) {
+                    baseDirectory = session.getTopDirectory();
+                }
+                return baseDirectory != null ? baseDirectory.resolve(file) : Paths.get(file);
+            }
+            MavenProject rootProject = session.getTopLevelProject();
+            return rootProject != null
+                    ? Paths.get(rootProject.getBuild().getDirectory(), "build-durations.properties")
+                    : null;
+        }
+
         private void checkUnboundVersions(BuildPlan buildPlan) {
             String defaulModelId = DefaultLifecyclePluginAnalyzer.DEFAULTLIFECYCLEBINDINGS_MODELID;
             List<String> unversionedPlugins = buildPlan
@@ -303,7 +348,11 @@ following plugin(s) that have goals not built with Maven 4 to support concurrent
         void execute() {
             try {
                 plan();
-                executePlan();
+                if (readyQueue) {
+                    executeReadySteps();
+                } else {
+                    executePlan();
+                }
                 executor.await();
             } catch (Exception e) {
                 session.getResult().addException(e);
@@ -314,6 +363,9 @@ void execute() {
         public void close() {
             this.appender.close();
             this.executor.close();
+            if (durations != null) {
+                durations.save();
+            }
         }
 
         private void executePlan() {
@@ -330,30 +382,110 @@ private void executePlan() {
                         .filter(step -> step.status.compareAndSet(CREATED, SCHEDULED))
                         .forEach(step -> {
                             boolean nextIsPlanning = step.successors.stream().anyMatch(st -> PLAN.equals(st.name));
-                            executor.execute(() -> {
-                                try (AutoCloseable ctx = appender.build(step.project)) {
-                                    executeStep(step);
-                                    if (nextIsPlanning) {
-                                        lock.writeLock().lock();
-                                        try {
-                                            plan();
-                                        } finally {
-                                            lock.writeLock().unlock();
+                            executor.execute(
+                                    () -> {
+                                        try (AutoCloseable ctx = appender.build(step.project)) {
+                                            executeStep(step);
+                                            step.status.compareAndSet(SCHEDULED, EXECUTED);
+                                            if (nextIsPlanning) {
+                                                lock.writeLock().lock();
+                                                try {
+                                                    plan();
+                                                } finally {
+                                                    lock.writeLock().unlock();
+                                                }
+                                            }
+                                            executePlan();
+                                        } catch (Throwable t) {
+                                            step.status.compareAndSet(SCHEDULED, FAILED);
+                                            global.stop();
+                                            handleBuildError(reactorContext, session, step.project, t, global);
                                         }
-                                    }
-                                    executePlan();
-                                } catch (Exception e) {
-                                    step.status.compareAndSet(SCHEDULED, FAILED);
-                                    global.stop();
-                                    handleBuildError(reactorContext, session, step.project, e, global);
-                                }
-                            });
+                                    },
+                                    step.criticalPath);
                         });
             } finally {
                 lock.readLock().unlock();
             }
         }
 
+        // Ready-queue scheduling: each step keeps the number of its predecessors which have not been
+        // executed yet, and finishing a step directly schedules the successors which became ready,
+        // instead of rescanning the whole plan.
+        private void executeReadySteps() {
+            lock.writeLock().lock();
+            try {
+                List<BuildStep> ready = new ArrayList<>();
+                plan.allSteps().forEach(step -> {
+                    step.resetPendingPredecessors();
+                    if (step.pendingPredecessors.get() == 0) {
+                        ready.add(step);
+                    }
+                });
+                scheduleSteps(ready);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void scheduleSteps(Collection<BuildStep> steps) {
+            if (reactorContext.getReactorBuildStatus().isHalted()) {
+                return;
+            }
+            Clock global = clocks.computeIfAbsent(GLOBAL, p -> new Clock());
+            global.start();
+            for (BuildStep step : steps) {
+                if (!step.status.compareAndSet(CREATED, SCHEDULED)) {
+                    continue;
+                }
+                boolean nextIsPlanning = step.successors.stream().anyMatch(st -> PLAN.equals(st.name));
+                executor.execute(
+                        () -> {
+                            try (AutoCloseable ctx = appender.build(step.project)) {
+                                executeStep(step);
+                                List<BuildStep> ready;
+                                // the status change and the release must be atomic with regard to planning,
+                                // which recomputes the pending predecessors of the planned steps
+                                lock.readLock().lock();
+                                try {
+                                    step.status.compareAndSet(SCHEDULED, EXECUTED);
+                                    ready = step.release();
+                                } finally {
+                                    lock.readLock().unlock();
+                                }
+                                if (nextIsPlanning) {
+                                    ready = new ArrayList<>(ready);
+                                    ready.addAll(planReadySteps());
+                                }
+                                scheduleSteps(ready);
+                            } catch (Throwable t) {
+                                step.status.compareAndSet(SCHEDULED, FAILED);
+                                global.stop();
+                                handleBuildError(reactorContext, session, step.project, t, global);
+                            }
+                        },
+                        step.criticalPath);
+            }
+        }
+
+        private List<BuildStep> planReadySteps() {
+            lock.writeLock().lock();
+            try {
+                List<BuildStep> ready = new ArrayList<>();
+                for (MavenProject project : plan()) {
+                    plan.steps(project).forEach(step -> {
+                        step.resetPendingPredecessors();
+                        if (step.pendingPredecessors.get() == 0) {
+                            ready.add(step);
+                        }
+                    });
+                }
+                return ready;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
         private void executeStep(BuildStep step) throws IOException, LifecycleExecutionException {
             Clock clock = getClock(step.project);
             switch (step.name) {
@@ -380,23 +512,26 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
                         attachToThread(step.project);
                         session.setCurrentProject(step.project);
                         clock.start();
+                        long start = System.nanoTime();
                         executions.forEach(mojoExecution -> {
                             mojoExecutionConfigurator(mojoExecution).configure(step.project, mojoExecution, true);
                             finalizeMojoConfiguration(mojoExecution);
                         });
                         mojoExecutor.execute(session, executions);
                         clock.stop();
+                        if (durations != null) {
+                            durations.record(step, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        }
                     }
                     break;
             }
-            step.status.compareAndSet(SCHEDULED, EXECUTED);
         }
 
         private Clock getClock(Object key) {
             return clocks.computeIfAbsent(key, p -> new Clock());
         }
 
-        private void plan() {
+        private Set<MavenProject> plan() {
             lock.writeLock().lock();
             try {
                 Set<BuildStep> planSteps = plan.allSteps()
@@ -451,6 +586,13 @@ private void plan() {
 
                 checkThreadSafety(plan);
                 checkUnboundVersions(plan);
+
+                if (durations != null && !planSteps.isEmpty()) {
+                    // the planned projects and their forks added steps to the plan
+                    durations.computeCriticalPaths(plan);
+                }
+
+                return planSteps.stream().map(step -> step.project).collect(Collectors.toSet());
             } finally {
                 lock.writeLock().unlock();
             }
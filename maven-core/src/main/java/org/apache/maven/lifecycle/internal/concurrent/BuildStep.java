@@ -18,9 +18,11 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -52,6 +54,8 @@ public class BuildStep {
     final Collection<BuildStep> successors = new HashSet<>();
     final AtomicInteger status = new AtomicInteger();
     final AtomicBoolean skip = new AtomicBoolean();
+    final AtomicInteger pendingPredecessors = new AtomicInteger();
+    volatile long criticalPath;
 
     public BuildStep(String name, MavenProject project, Lifecycle.Phase phase) {
         this.name = name;
@@ -84,6 +88,34 @@ private boolean isSuccessorOf(Set<BuildStep> visited, BuildStep step) {
         }
     }
 
+    /**
+     * Recomputes the number of predecessors which have not been executed yet.
+     * The caller must make sure that the status of the predecessors can not change concurrently.
+     */
+    void resetPendingPredecessors() {
+        int pending = 0;
+        for (BuildStep predecessor : predecessors) {
+            if (predecessor.status.get() != EXECUTED) {
+                pending++;
+            }
+        }
+        pendingPredecessors.set(pending);
+    }
+
+    /**
+     * Notifies the successors that this step has been executed and returns the ones
+     * which do not have any pending predecessor anymore.
+     */
+    List<BuildStep> release() {
+        List<BuildStep> ready = new ArrayList<>();
+        for (BuildStep successor : successors) {
+            if (successor.pendingPredecessors.decrementAndGet() == 0) {
+                ready.add(successor);
+            }
+        }
+        return ready;
+    }
+
     public void skip() {
         skip.set(true);
         mojos.clear();
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Historical durations of build steps, keyed by project id and phase, and persisted across builds.
+ * <p>
+ * The durations are used to compute the longest remaining path of each step in the build plan,
+ * so that steps on the critical path can be executed first.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ */
+public class BuildStepDurations {
+
+    /**
+     * Duration assumed for steps which have never been recorded, so that the longest chain
+     * of steps is favoured when no history is available.
+     */
+    static final long UNKNOWN_DURATION = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    public BuildStepDurations(Path file) {
+        this.file = file;
+    }
+
+    public static BuildStepDurations load(Path file) {
+        BuildStepDurations durations = new BuildStepDurations(file);
+        if (file != null && Files.isRegularFile(file)) {
+            Properties props = new Properties();
+            try (InputStream is = Files.newInputStream(file)) {
+                props.load(is);
+                props.forEach((k, v) -> {
+                    try {
+                        durations.durations.put(k.toString(), Long.parseLong(v.toString()));
+                    } catch (NumberFormatException e) {
+                        // ignore invalid entries
+                    }
+                });
+            } catch (IOException e) {
+                durations.logger.debug("Unable to read build step durations from {}", file, e);
+            }
+        }
+        return durations;
+    }
+
+    public void save() {
+        if (file == null || durations.isEmpty()) {
+            return;
+        }
+        Properties props = new Properties();
+        durations.forEach((k, v) -> props.setProperty(k, Long.toString(v)));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream os = Files.newOutputStream(file)) {
+                props.store(os, "Build step durations in milliseconds");
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to write build step durations to {}", file, e);
+        }
+    }
+
+    public long get(BuildStep step) {
+        return durations.getOrDefault(key(step), UNKNOWN_DURATION);
+    }
+
+    public void record(BuildStep step, long millis) {
+        durations.put(key(step), millis);
+    }
+
+    /**
+     * Computes for each step the duration of the longest path starting at this step
+     * and going through its successors.
+     */
+    public void computeCriticalPaths(BuildPlan plan) {
+        List<BuildStep> sortedNodes = plan.sortedNodes();
+        for (int i = sortedNodes.size() - 1; i >= 0; i--) {
+            BuildStep step = sortedNodes.get(i);
+            long remaining = 0;
+            for (BuildStep successor : step.successors) {
+                remaining = Math.max(remaining, successor.criticalPath);
+            }
+            step.criticalPath = get(step) + remaining;
+        }
+    }
+
+    private static String key(BuildStep step) {
+        return step.project.getGroupId() + ":" + step.project.getArtifactId() + ":" + step.name;
+    }
+}
@@ -18,20 +18,43 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.slf4j.MavenSimpleLogger;
 
 /**
  * Forwards log messages to the client.
+ * <p>
+ * By default, the messages logged while building a project are buffered and written when the
+ * build step completes, so that the output of concurrently built projects is not interleaved.
+ * Messages are kept in memory up to a given count, after which they are spilled to a temporary
+ * file and replayed in order when the build step completes. In <i>live</i> mode, messages are
+ * written immediately, prefixed with the artifact id of the project.
  */
 public class ConcurrentLogOutput implements AutoCloseable {
 
+    public static final int DEFAULT_BUFFER_SIZE = 10000;
+
     private static final ThreadLocal<ProjectExecutionContext> CONTEXT = new InheritableThreadLocal<>();
 
+    private final boolean live;
+    private final int bufferSize;
+
     public ConcurrentLogOutput() {
+        this(false, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ConcurrentLogOutput(boolean live, int bufferSize) {
+        this.live = live;
+        this.bufferSize = bufferSize;
         MavenSimpleLogger.setLogSink(this::accept);
     }
 
@@ -50,32 +73,118 @@ public void close() {
     }
 
     public AutoCloseable build(MavenProject project) {
-        return new ProjectExecutionContext(project);
+        return live ? new LiveProjectExecutionContext(project) : new ProjectExecutionContext(project, bufferSize);
     }
 
     private static class ProjectExecutionContext implements AutoCloseable {
         final MavenProject project;
-        final List<String> messages = new CopyOnWriteArrayList<>();
+        final int bufferSize;
+        final List<String> messages = new ArrayList<>();
+        Path spillFile;
+        BufferedWriter spillWriter;
         boolean closed;
 
-        ProjectExecutionContext(MavenProject project) {
+        ProjectExecutionContext(MavenProject project, int bufferSize) {
             this.project = project;
+            this.bufferSize = bufferSize;
             CONTEXT.set(this);
         }
 
-        void accept(String message) {
-            if (!closed) {
-                this.messages.add(message);
+        synchronized void accept(String message) {
+            if (closed) {
+                System.out.println(message);
+            } else if (spillWriter != null) {
+                spill(message);
             } else {
+                messages.add(message);
+                if (messages.size() > bufferSize) {
+                    startSpilling();
+                }
+            }
+        }
+
+        private void startSpilling() {
+            try {
+                spillFile = Files.createTempFile("maven-build-", ".log");
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+                messages.forEach(this::spill);
+                messages.clear();
+            } catch (IOException e) {
+                // keep buffering in memory
+                discardSpillFile();
+            }
+        }
+
+        private void spill(String message) {
+            try {
+                spillWriter.write(message);
+                spillWriter.newLine();
+            } catch (IOException e) {
+                // should not happen, but do not lose the message
                 System.out.println(message);
             }
         }
 
+        private void discardSpillFile() {
+            try {
+                if (spillWriter != null) {
+                    spillWriter.close();
+                }
+                if (spillFile != null) {
+                    Files.deleteIfExists(spillFile);
+                }
+            } catch (IOException e) {
+                // ignore
+            }
+            spillWriter = null;
+            spillFile = null;
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            CONTEXT.set(null);
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                    try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                        reader.lines().forEach(System.out::println);
+                    }
+                } catch (IOException e) {
+                    System.out.println("[ERROR] Unable to replay the build output of " + project.getArtifactId()
+                            + " from " + spillFile + ": " + e);
+                }
+                discardSpillFile();
+            }
+            messages.forEach(System.out::println);
+            messages.clear();
+        }
+    }
+
+    private static class LiveProjectExecutionContext extends ProjectExecutionContext {
+        final String prefix;
+
+        LiveProjectExecutionContext(MavenProject project) {
+            super(project, 0);
+            this.prefix = "[" + project.getArtifactId() + "] ";
+        }
+
+        @Override
+        synchronized void accept(String message) {
+            StringBuilder sb = new StringBuilder();
+            for (String line : message.split("\\R", -1)) {
+                if (sb.length() > 0) {
+                    sb.append(System.lineSeparator());
+                }
+                sb.append(prefix).append(line);
+            }
+            System.out.println(sb);
+        }
+
         @Override
-        public void close() {
+        public synchronized void close() {
             closed = true;
             CONTEXT.set(null);
-            this.messages.forEach(System.out::println);
         }
     }
 }
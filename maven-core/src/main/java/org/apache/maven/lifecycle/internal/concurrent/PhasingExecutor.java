@@ -21,26 +21,43 @@
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class PhasingExecutor implements Executor, AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
     private final ExecutorService executor;
     private final Phaser phaser = new Phaser();
+    private final AtomicLong sequence = new AtomicLong();
 
     public PhasingExecutor(ExecutorService executor) {
         this.executor = executor;
         this.phaser.register();
     }
 
+    /**
+     * Creates an executor which runs the pending tasks with the highest priority first,
+     * and tasks with the same priority in submission order.
+     */
+    public static PhasingExecutor prioritized(int threads, ThreadFactory threadFactory) {
+        return new PhasingExecutor(new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), threadFactory));
+    }
+
     @Override
     public void execute(Runnable command) {
+        execute(command, 0);
+    }
+
+    public void execute(Runnable command, long priority) {
         phaser.register();
-        executor.submit(() -> {
-            try {
-                command.run();
-            } finally {
-                phaser.arriveAndDeregister();
-            }
-        });
+        executor.execute(new Task(command, priority, sequence.getAndIncrement()));
     }
 
     public void await() {
@@ -51,4 +68,34 @@ public void await() {
     public void close() {
         executor.shutdownNow();
     }
+
+    private class Task implements Runnable, Comparable<Task> {
+        final Runnable command;
+        final long priority;
+        final long sequence;
+
+        Task(Runnable command, long priority, long sequence) {
+            this.command = command;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            try {
+                command.run();
+            } catch (Exception e) {
+                // do not let a failing task kill the pool thread, but let errors propagate
+                logger.error("Build task failed", e);
+            } finally {
+                phaser.arriveAndDeregister();
+            }
+        }
+
+        @Override
+        public int compareTo(Task o) {
+            int c = Long.compare(o.priority, priority);
+            return c != 0 ? c : Long.compare(sequence, o.sequence);
+        }
+    }
 }
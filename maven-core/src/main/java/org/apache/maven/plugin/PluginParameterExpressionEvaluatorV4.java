@@ -21,13 +21,13 @@
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.api.MojoExecution;
 import org.apache.maven.api.Project;
 import org.apache.maven.api.Session;
-import org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor;
+import org.apache.maven.model.interpolation.reflection.CompiledExpression;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
 
@@ -96,116 +96,27 @@ public Object evaluate(String expr) throws ExpressionEvaluationException {
     }
 
     @Override
-    @SuppressWarnings("checkstyle:methodlength")
     public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationException {
-        Object value = null;
-
         if (expr == null) {
             return null;
         }
 
-        String expression = stripTokens(expr);
-        if (expression.equals(expr)) {
-            int index = expr.indexOf("${");
-            if (index >= 0) {
-                int lastIndex = expr.indexOf('}', index);
-                if (lastIndex >= 0) {
-                    String retVal = expr.substring(0, index);
-
-                    if ((index > 0) && (expr.charAt(index - 1) == '$')) {
-                        retVal += expr.substring(index + 1, lastIndex + 1);
-                    } else {
-                        Object subResult = evaluate(expr.substring(index, lastIndex + 1));
-
-                        if (subResult != null) {
-                            retVal += subResult;
-                        } else {
-                            retVal += "$" + expr.substring(index + 1, lastIndex + 1);
-                        }
-                    }
-
-                    retVal += evaluate(expr.substring(lastIndex + 1));
-                    return retVal;
-                }
-            }
-
-            // Was not an expression
-            return expression.replace("$$", "$");
-        }
-
-        Map<String, Object> objects = new HashMap<>();
-        objects.put("session.", session);
-        objects.put("project.", project);
-        objects.put("mojo.", mojoExecution);
-        objects.put("settings.", session.getSettings());
-        for (Map.Entry<String, Object> ctx : objects.entrySet()) {
-            if (expression.startsWith(ctx.getKey())) {
-                try {
-                    int pathSeparator = expression.indexOf('/');
-                    if (pathSeparator > 0) {
-                        String pathExpression = expression.substring(0, pathSeparator);
-                        value = ReflectionValueExtractor.evaluate(pathExpression, ctx.getValue());
-                        if (pathSeparator < expression.length() - 1) {
-                            if (value instanceof Path) {
-                                value = ((Path) value).resolve(expression.substring(pathSeparator + 1));
-                            } else {
-                                value = value + expression.substring(pathSeparator);
-                            }
-                        }
-                    } else {
-                        value = ReflectionValueExtractor.evaluate(expression, ctx.getValue());
-                    }
-                    break;
-                } catch (Exception e) {
-                    // TODO don't catch exception
-                    throw new ExpressionEvaluationException(
-                            "Error evaluating plugin parameter expression: " + expression, e);
-                }
-            }
-        }
-
-        /*
-         * MNG-4312: We neither have reserved all of the above magic expressions nor is their set fixed/well-known (it
-         * gets occasionally extended by newer Maven versions). This imposes the risk for existing plugins to
-         * unintentionally use such a magic expression for an ordinary property. So here we check whether we
-         * ended up with a magic value that is not compatible with the type of the configured mojo parameter (a string
-         * could still be converted by the configurator so we leave those alone). If so, back off to evaluating the
-         * expression from properties only.
-         */
-        if (value != null && type != null && !(value instanceof String) && !isTypeCompatible(type, value)) {
-            value = null;
-        }
-
-        if (value == null) {
-            // The CLI should win for defining properties
-
-            if (properties != null) {
-                // We will attempt to get nab a property as a way to specify a parameter
-                // to a plugin. My particular case here is allowing the surefire plugin
-                // to run a single test so I want to specify that class on the cli as
-                // a parameter.
+        return Expression.of(expr).evaluate(this, type);
+    }
 
-                value = properties.get(expression);
-            }
+    private Object getRoot(int root) {
+        switch (root) {
+            case Reference.SESSION:
+                return session;
+            case Reference.PROJECT:
+                return project;
+            case Reference.MOJO:
+                return mojoExecution;
+            case Reference.SETTINGS:
+                return session.getSettings();
+            default:
+                return null;
         }
-
-        if (value instanceof String) {
-            // TODO without #, this could just be an evaluate call...
-
-            String val = (String) value;
-
-            int exprStartDelimiter = val.indexOf("${");
-
-            if (exprStartDelimiter >= 0) {
-                if (exprStartDelimiter > 0) {
-                    value = val.substring(0, exprStartDelimiter) + evaluate(val.substring(exprStartDelimiter));
-                } else {
-                    value = evaluate(val.substring(exprStartDelimiter));
-                }
-            }
-        }
-
-        return value;
     }
 
     private static boolean isTypeCompatible(Class<?> type, Object value) {
@@ -217,7 +128,7 @@ private static boolean isTypeCompatible(Class<?> type, Object value) {
                 && value.getClass().getName().startsWith("java.lang."));
     }
 
-    private String stripTokens(String expr) {
+    private static String stripTokens(String expr) {
         if (expr.startsWith("${") && (expr.indexOf('}') == expr.length() - 1)) {
             expr = expr.substring(2, expr.length() - 1);
         }
@@ -244,4 +155,233 @@ public File alignToBaseDirectory(File file) {
         }
         return file;
     }
+
+    /**
+     * A parsed plugin parameter expression. Expressions are parsed once and shared by all evaluators,
+     * their evaluation only depends on the evaluator they are given.
+     */
+    abstract static class Expression {
+        /**
+         * Maximum number of expressions kept by {@link #of(String)}.
+         */
+        private static final int MAX_PARSED = 16384;
+
+        private static final Map<String, Expression> PARSED = new ConcurrentHashMap<>();
+
+        static Expression of(String expr) {
+            Expression result = PARSED.get(expr);
+            if (result == null) {
+                result = parse(expr);
+                if (PARSED.size() < MAX_PARSED) {
+                    Expression existing = PARSED.putIfAbsent(expr, result);
+                    if (existing != null) {
+                        result = existing;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Expression parse(String expr) {
+            String expression = stripTokens(expr);
+            if (!expression.equals(expr)) {
+                return new Reference(expression);
+            }
+
+            int index = expr.indexOf("${");
+            if (index >= 0) {
+                int lastIndex = expr.indexOf('}', index);
+                if (lastIndex >= 0) {
+                    String prefix = expr.substring(0, index);
+                    String escaped = null;
+                    Reference reference = null;
+                    if ((index > 0) && (expr.charAt(index - 1) == '$')) {
+                        escaped = expr.substring(index + 1, lastIndex + 1);
+                    } else {
+                        reference = new Reference(expr.substring(index + 2, lastIndex));
+                    }
+                    return new Composite(prefix, escaped, reference, parse(expr.substring(lastIndex + 1)));
+                }
+            }
+
+            // Was not an expression
+            return new Literal(expression.replace("$$", "$"));
+        }
+
+        abstract Object evaluate(PluginParameterExpressionEvaluatorV4 evaluator, Class<?> type)
+                throws ExpressionEvaluationException;
+    }
+
+    /**
+     * A string without expression.
+     */
+    static final class Literal extends Expression {
+        private final String value;
+
+        Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        Object evaluate(PluginParameterExpressionEvaluatorV4 evaluator, Class<?> type) {
+            return value;
+        }
+    }
+
+    /**
+     * A string with an expression, followed by the remaining content. Evaluates to a string.
+     */
+    static final class Composite extends Expression {
+        private final String prefix;
+
+        private final String escaped;
+
+        private final Reference reference;
+
+        private final Expression remainder;
+
+        Composite(String prefix, String escaped, Reference reference, Expression remainder) {
+            this.prefix = prefix;
+            this.escaped = escaped;
+            this.reference = reference;
+            this.remainder = remainder;
+        }
+
+        @Override
+        Object evaluate(PluginParameterExpressionEvaluatorV4 evaluator, Class<?> type)
+                throws ExpressionEvaluationException {
+            String retVal = prefix;
+
+            if (escaped != null) {
+                retVal += escaped;
+            } else {
+                Object subResult = reference.evaluate(evaluator, null);
+
+                if (subResult != null) {
+                    retVal += subResult;
+                } else {
+                    retVal += "${" + reference.expression + "}";
+                }
+            }
+
+            retVal += remainder.evaluate(evaluator, null);
+            return retVal;
+        }
+    }
+
+    /**
+     * The content of a <code>${...}</code> expression.
+     */
+    static final class Reference extends Expression {
+        static final int NONE = 0;
+
+        static final int SESSION = 1;
+
+        static final int PROJECT = 2;
+
+        static final int MOJO = 3;
+
+        static final int SETTINGS = 4;
+
+        private final String expression;
+
+        private final int root;
+
+        private final CompiledExpression path;
+
+        private final String pathSuffix;
+
+        Reference(String expression) {
+            this.expression = expression;
+            if (expression.startsWith("session.")) {
+                root = SESSION;
+            } else if (expression.startsWith("project.")) {
+                root = PROJECT;
+            } else if (expression.startsWith("mojo.")) {
+                root = MOJO;
+            } else if (expression.startsWith("settings.")) {
+                root = SETTINGS;
+            } else {
+                root = NONE;
+            }
+            int pathSeparator = expression.indexOf('/');
+            if (root == NONE) {
+                path = null;
+                pathSuffix = null;
+            } else if (pathSeparator > 0) {
+                path = CompiledExpression.compile(expression.substring(0, pathSeparator), true);
+                pathSuffix = pathSeparator < expression.length() - 1 ? expression.substring(pathSeparator) : null;
+            } else {
+                path = CompiledExpression.compile(expression, true);
+                pathSuffix = null;
+            }
+        }
+
+        @Override
+        Object evaluate(PluginParameterExpressionEvaluatorV4 evaluator, Class<?> type)
+                throws ExpressionEvaluationException {
+            Object value = null;
+
+            if (path != null) {
+                try {
+                    value = path.evaluate(evaluator.getRoot(root));
+                    if (pathSuffix != null) {
+                        if (value instanceof Path) {
+                            value = ((Path) value).resolve(pathSuffix.substring(1));
+                        } else {
+                            value = value + pathSuffix;
+                        }
+                    }
+                } catch (Exception e) {
+                    // TODO don't catch exception
+                    throw new ExpressionEvaluationException(
+                            "Error evaluating plugin parameter expression: " + expression, e);
+                }
+            }
+
+            /*
+             * MNG-4312: We neither have reserved all of the above magic expressions nor is their set fixed/well-known
+             * (it gets occasionally extended by newer Maven versions). This imposes the risk for existing plugins to
+             * unintentionally use such a magic expression for an ordinary property. So here we check whether we
+             * ended up with a magic value that is not compatible with the type of the configured mojo parameter (a
+             * string could still be converted by the configurator so we leave those alone). If so, back off to
+             * evaluating the expression from properties only.
+             */
+            if (value != null && type != null && !(value instanceof String) && !isTypeCompatible(type, value)) {
+                value = null;
+            }
+
+            if (value == null) {
+                // The CLI should win for defining properties
+
+                if (evaluator.properties != null) {
+                    // We will attempt to get nab a property as a way to specify a parameter
+                    // to a plugin. My particular case here is allowing the surefire plugin
+                    // to run a single test so I want to specify that class on the cli as
+                    // a parameter.
+
+                    value = evaluator.properties.get(expression);
+                }
+            }
+
+            if (value instanceof String) {
+                // TODO without #, this could just be an evaluate call...
+
+                String val = (String) value;
+
+                int exprStartDelimiter = val.indexOf("${");
+
+                if (exprStartDelimiter >= 0) {
+                    if (exprStartDelimiter > 0) {
+                        value = val.substring(0, exprStartDelimiter)
+                                + evaluator.evaluate(val.substring(exprStartDelimiter));
+                    } else {
+                        value = evaluator.evaluate(val.substring(exprStartDelimiter));
+                    }
+                }
+            }
+
+            return value;
+        }
+    }
 }
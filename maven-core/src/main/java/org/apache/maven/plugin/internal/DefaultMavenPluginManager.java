@@ -26,6 +26,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -44,6 +45,7 @@
 import java.util.zip.ZipEntry;
 
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Dependency;
 import org.apache.maven.api.Node;
 import org.apache.maven.api.PathScope;
@@ -206,7 +208,7 @@ public PluginDescriptor getPluginDescriptor(
 
             Artifact pluginArtifact = RepositoryUtils.toArtifact(artifact);
 
-            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin);
+            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin, session);
 
             boolean isBlankVersion = descriptor.getRequiredMavenVersion() == null
                     || descriptor.getRequiredMavenVersion().trim().isEmpty();
@@ -224,7 +226,8 @@ public PluginDescriptor getPluginDescriptor(
         return pluginDescriptor;
     }
 
-    private PluginDescriptor extractPluginDescriptor(Artifact pluginArtifact, Plugin plugin)
+    private PluginDescriptor extractPluginDescriptor(
+            Artifact pluginArtifact, Plugin plugin, RepositorySystemSession session)
             throws PluginDescriptorParsingException, InvalidPluginDescriptorException {
         PluginDescriptor pluginDescriptor = null;
 
@@ -232,15 +235,18 @@ private PluginDescriptor extractPluginDescriptor(Artifact pluginArtifact, Plugin
 
         try {
             if (pluginFile.isFile()) {
-                try (JarFile pluginJar = new JarFile(pluginFile, false)) {
-                    ZipEntry pluginDescriptorEntry = pluginJar.getEntry(getPluginDescriptorLocation());
-
-                    if (pluginDescriptorEntry != null) {
-                        pluginDescriptor = parsePluginDescriptor(
-                                () -> pluginJar.getInputStream(pluginDescriptorEntry),
-                                plugin,
-                                pluginFile.getAbsolutePath());
-                    }
+                Serializable descriptor;
+                if (Boolean.parseBoolean(
+                        session.getUserProperties().get(Constants.MAVEN_PLUGIN_PERSISTENT_DESCRIPTOR_CACHE))) {
+                    descriptor = new PersistentPluginDescriptorCache(
+                                    session.getLocalRepository().getBasedir().toPath())
+                            .computeIfAbsent(pluginFile.toPath(), () -> readPluginDescriptor(pluginFile, plugin));
+                } else {
+                    descriptor = readPluginDescriptor(pluginFile, plugin);
+                }
+
+                if (descriptor != null) {
+                    pluginDescriptor = buildPluginDescriptor(descriptor, plugin, pluginFile.getAbsolutePath());
                 }
             } else {
                 File pluginXml = new File(pluginFile, getPluginDescriptorLocation());
@@ -275,6 +281,31 @@ private String getPluginDescriptorLocation() {
         return "META-INF/maven/plugin.xml";
     }
 
+    private Serializable readPluginDescriptor(File pluginFile, Plugin plugin)
+            throws IOException, PluginDescriptorParsingException {
+        try (JarFile pluginJar = new JarFile(pluginFile, false)) {
+            ZipEntry pluginDescriptorEntry = pluginJar.getEntry(getPluginDescriptorLocation());
+
+            if (pluginDescriptorEntry == null) {
+                return null;
+            }
+            try {
+                return builder.read(() -> pluginJar.getInputStream(pluginDescriptorEntry));
+            } catch (PlexusConfigurationException e) {
+                throw new PluginDescriptorParsingException(plugin, pluginFile.getAbsolutePath(), e);
+            }
+        }
+    }
+
+    private PluginDescriptor buildPluginDescriptor(Serializable descriptor, Plugin plugin, String descriptorLocation)
+            throws PluginDescriptorParsingException {
+        try {
+            return builder.build(descriptor, descriptorLocation);
+        } catch (PlexusConfigurationException e) {
+            throw new PluginDescriptorParsingException(plugin, descriptorLocation, e);
+        }
+    }
+
     private PluginDescriptor parsePluginDescriptor(
             PluginDescriptorBuilder.StreamSupplier is, Plugin plugin, String descriptorLocation)
             throws PluginDescriptorParsingException {
@@ -992,7 +1023,7 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
                 // ignore plugin descriptor parsing errors at this point
                 // these errors will reported during calculation of project build execution plan
                 try {
-                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin);
+                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin, session);
                 } catch (PluginDescriptorParsingException | InvalidPluginDescriptorException e) {
                     // ignore, see above
                 }
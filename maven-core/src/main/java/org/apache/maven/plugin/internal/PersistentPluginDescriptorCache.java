@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.api.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.internal.xml.XmlNodeImpl;
+import org.apache.maven.plugin.PluginDescriptorParsingException;
+import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache which persists the plugin descriptors read from the plugin JAR files of the local repository,
+ * so that the JAR files are not opened and their {@code plugin.xml} is not parsed again on each build.
+ * <p>
+ * The result of {@link PluginDescriptorBuilder#read(PluginDescriptorBuilder.StreamSupplier)} is stored in
+ * a binary form in a directory of the local repository: the XML tree of legacy descriptors is written node by
+ * node, while v4 descriptors are serialized. An entry is keyed by the path of the JAR file and
+ * is only used if the size and the last modification time of the JAR file did not change. Any problem
+ * reading or writing an entry silently falls back to reading the JAR file.
+ */
+class PersistentPluginDescriptorCache {
+
+    static final String CACHE_DIRECTORY = ".cache/maven-plugins";
+
+    private static final int MAGIC = 0x4D504431; // MPD1
+
+    /**
+     * Entry holding the XML tree of a legacy descriptor, written node by node.
+     */
+    private static final byte NODE = 1;
+
+    /**
+     * Entry holding a serialized v4 descriptor.
+     */
+    private static final byte OBJECT = 2;
+
+    /**
+     * Reads the descriptor of a plugin, or returns {@code null} if the plugin has no descriptor.
+     */
+    interface Loader {
+        Serializable load() throws IOException, PluginDescriptorParsingException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path localRepository;
+    private final Path cacheDirectory;
+
+    PersistentPluginDescriptorCache(Path localRepository) {
+        this.localRepository = localRepository.toAbsolutePath().normalize();
+        this.cacheDirectory = this.localRepository.resolve(CACHE_DIRECTORY);
+    }
+
+    /**
+     * Gets the descriptor of the given plugin JAR file, from the cache if possible.
+     *
+     * @param jar the plugin JAR file
+     * @param loader reads the descriptor from the JAR file, if it is not cached
+     * @return the descriptor, or {@code null} if the plugin has no descriptor
+     */
+    Serializable computeIfAbsent(Path jar, Loader loader) throws IOException, PluginDescriptorParsingException {
+        Path path = jar.toAbsolutePath().normalize();
+        if (!path.startsWith(localRepository)) {
+            return loader.load();
+        }
+        Fingerprint fingerprint = Fingerprint.of(path);
+        if (fingerprint == null) {
+            return loader.load();
+        }
+        Path entry = cacheDirectory.resolve(hash(fingerprint.path()) + ".bin");
+        Serializable descriptor = read(entry, fingerprint);
+        if (descriptor == null) {
+            descriptor = loader.load();
+            if (descriptor != null) {
+                write(entry, fingerprint, descriptor);
+            }
+        }
+        return descriptor;
+    }
+
+    private Serializable read(Path entry, Fingerprint fingerprint) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (dis.readInt() != MAGIC || !fingerprint.equals(Fingerprint.read(dis))) {
+                return null;
+            }
+            byte kind = dis.readByte();
+            if (kind == NODE) {
+                return (Serializable) readNode(dis);
+            } else if (kind == OBJECT) {
+                try (ObjectInputStream ois = new DescriptorInputStream(dis)) {
+                    return (Serializable) ois.readObject();
+                }
+            } else {
+                throw new IOException("Invalid entry kind " + kind);
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to read cached plugin descriptor {}", entry, e);
+            return null;
+        }
+    }
+
+    private void write(Path entry, Fingerprint fingerprint, Serializable descriptor) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (DataOutputStream dos = new DataOutputStream(baos)) {
+                dos.writeInt(MAGIC);
+                fingerprint.write(dos);
+                if (descriptor instanceof XmlNode node) {
+                    dos.writeByte(NODE);
+                    writeNode(dos, node);
+                } else {
+                    dos.writeByte(OBJECT);
+                    try (ObjectOutputStream oos = new ObjectOutputStream(dos)) {
+                        oos.writeObject(descriptor);
+                    }
+                }
+            }
+            Files.createDirectories(cacheDirectory);
+            Path tmp = Files.createTempFile(cacheDirectory, "plugin", ".tmp");
+            try {
+                Files.write(tmp, baos.toByteArray());
+                try {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to write cached plugin descriptor {}", entry, e);
+        }
+    }
+
+    private static void writeNode(DataOutputStream dos, XmlNode node) throws IOException {
+        writeString(dos, node.getPrefix());
+        writeString(dos, node.getNamespaceUri());
+        writeString(dos, node.getName());
+        writeString(dos, node.getValue());
+        Map<String, String> attributes = node.getAttributes();
+        dos.writeInt(attributes.size());
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            writeString(dos, attribute.getKey());
+            writeString(dos, attribute.getValue());
+        }
+        List<XmlNode> children = node.getChildren();
+        dos.writeInt(children.size());
+        for (XmlNode child : children) {
+            writeNode(dos, child);
+        }
+    }
+
+    private static XmlNode readNode(DataInputStream dis) throws IOException {
+        String prefix = readString(dis);
+        String namespaceUri = readString(dis);
+        String name = readString(dis);
+        String value = readString(dis);
+        int attributeCount = dis.readInt();
+        Map<String, String> attributes = attributeCount > 0 ? new LinkedHashMap<>(attributeCount * 2) : null;
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put(readString(dis), readString(dis));
+        }
+        int childCount = dis.readInt();
+        List<XmlNode> children = childCount > 0 ? new ArrayList<>(childCount) : null;
+        for (int i = 0; i < childCount; i++) {
+            children.add(readNode(dis));
+        }
+        return new XmlNodeImpl(prefix, namespaceUri, name, value, attributes, children, null);
+    }
+
+    /**
+     * Writes a string which may be {@code null} or longer than supported by {@link DataOutputStream#writeUTF}.
+     */
+    private static void writeString(DataOutputStream dos, String value) throws IOException {
+        if (value == null) {
+            dos.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            dos.writeInt(bytes.length);
+            dos.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream dis) throws IOException {
+        int length = dis.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        dis.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String hash(String data) {
+        try {
+            return HexFormat.of()
+                    .formatHex(MessageDigest.getInstance("SHA-1").digest(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The path, size and last modification time of a plugin JAR file.
+     */
+    record Fingerprint(String path, long size, long lastModified) {
+
+        static Fingerprint of(Path path) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return new Fingerprint(
+                        path.toString(), attrs.size(), attrs.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        static Fingerprint read(DataInputStream dis) throws IOException {
+            return new Fingerprint(dis.readUTF(), dis.readLong(), dis.readLong());
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeUTF(path);
+            dos.writeLong(size);
+            dos.writeLong(lastModified);
+        }
+    }
+
+    private static class DescriptorInputStream extends ObjectInputStream {
+
+        /**
+         * The JDK classes used by the serialized form of the v4 descriptors.
+         */
+        private static final Set<Class<?>> JDK_CLASSES = Set.of(Object.class, String.class);
+
+        DescriptorInputStream(InputStream in) throws IOException {
+            super(in);
+            // only deserialize descriptor classes
+            setObjectInputFilter(info -> {
+                Class<?> clazz = info.serialClass();
+                if (clazz == null) {
+                    return ObjectInputFilter.Status.UNDECIDED;
+                }
+                while (clazz.isArray()) {
+                    clazz = clazz.getComponentType();
+                }
+                return isDescriptorClass(clazz) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+            });
+        }
+
+        private static boolean isDescriptorClass(Class<?> clazz) {
+            return clazz.isPrimitive()
+                    || PluginDescriptor.class.getPackageName().equals(clazz.getPackageName())
+                    || JDK_CLASSES.contains(clazz);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, PersistentPluginDescriptorCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -30,7 +30,6 @@
 import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,18 +39,16 @@
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -422,35 +419,19 @@ protected org.apache.maven.model.resolution.ModelResolver getResolver(
 
         ExecutorService createExecutor(int parallelism) {
             //
-            // We need an executor that will not block.
-            // We can't use work stealing, as we are building a graph
-            // and this could lead to cycles where a thread waits for
-            // a task to finish, then execute another one which waits
-            // for the initial task...
-            // In order to work around that problem, we override the
-            // invokeAll method, so that whenever the method is called,
-            // the pool core size will be incremented before submitting
-            // all the tasks, then the thread will block waiting for all
-            // those subtasks to finish.
-            // This ensures the number of running workers is no more than
-            // the defined parallism, while making sure the pool will not
-            // be exhausted
+            // The reactor is built as a graph of asynchronous tasks: a task never
+            // blocks waiting for its subprojects, it rather chains the work to be
+            // done once they are all completed. A work-stealing pool can thus be
+            // used safely, and the number of threads is bounded by the parallelism.
+            // The workers inherit the context class loader of the caller, as the threads of a thread pool do.
             //
-            return new ThreadPoolExecutor(
-                    parallelism, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
-                final AtomicInteger parked = new AtomicInteger();
-
-                @Override
-                public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
-                        throws InterruptedException {
-                    setCorePoolSize(parallelism + parked.incrementAndGet());
-                    try {
-                        return super.invokeAll(tasks);
-                    } finally {
-                        setCorePoolSize(parallelism + parked.decrementAndGet());
-                    }
-                }
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+                ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                worker.setContextClassLoader(contextClassLoader);
+                return worker;
             };
+            return new ForkJoinPool(parallelism, factory, null, true);
         }
 
         @Override
@@ -606,13 +587,14 @@ List<ProjectBuildingResult> doBuild(List<File> pomFiles, boolean recursive) {
             Map<File, MavenProject> projectIndex = new ConcurrentHashMap<>(256);
 
             // phase 1: get file Models from the reactor.
-            List<InterimResult> interimResults = build(projectIndex, pomFiles, new LinkedHashSet<>(), true, recursive);
+            List<InterimResult> interimResults =
+                    join(build(projectIndex, pomFiles, new LinkedHashSet<>(), true, recursive));
 
             ClassLoader oldContextClassLoader = Thread.currentThread().getContextClassLoader();
 
             try {
                 // Phase 2: get effective models from the reactor
-                List<ProjectBuildingResult> results = build(projectIndex, interimResults);
+                List<ProjectBuildingResult> results = join(build(projectIndex, interimResults));
 
                 request.getRepositorySession()
                         .getData()
@@ -625,26 +607,27 @@ List<ProjectBuildingResult> doBuild(List<File> pomFiles, boolean recursive) {
         }
 
         @SuppressWarnings("checkstyle:parameternumber")
-        private List<InterimResult> build(
+        private CompletableFuture<List<InterimResult>> build(
                 Map<File, MavenProject> projectIndex,
                 List<File> pomFiles,
                 Set<File> aggregatorFiles,
                 boolean root,
                 boolean recursive) {
-            List<Callable<InterimResult>> tasks = pomFiles.stream()
-                    .map(pomFile -> ((Callable<InterimResult>)
-                            () -> build(projectIndex, pomFile, concat(aggregatorFiles, pomFile), root, recursive)))
-                    .collect(Collectors.toList());
+            return all(pomFiles.stream()
+                    .map(pomFile -> CompletableFuture.supplyAsync(
+                                    () -> build(
+                                            projectIndex, pomFile, concat(aggregatorFiles, pomFile), root, recursive),
+                                    executor)
+                            .thenCompose(Function.identity()))
+                    .toList());
+        }
+
+        private <T> T join(CompletableFuture<T> future) {
             try {
-                List<Future<InterimResult>> futures = executor.invokeAll(tasks);
-                List<InterimResult> list = new ArrayList<>();
-                for (Future<InterimResult> future : futures) {
-                    InterimResult interimResult = future.get();
-                    list.add(interimResult);
-                }
-                return list;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+                return future.join();
+            } catch (CompletionException e) {
+                uncheckedThrow(e.getCause());
+                return null;
             }
         }
 
@@ -655,7 +638,7 @@ private <T> Set<T> concat(Set<T> set, T elem) {
         }
 
         @SuppressWarnings("checkstyle:parameternumber")
-        private InterimResult build(
+        private CompletableFuture<InterimResult> build(
                 Map<File, MavenProject> projectIndex,
                 File pomFile,
                 Set<File> aggregatorFiles,
@@ -684,9 +667,9 @@ private InterimResult build(
             } catch (ModelBuilderException e) {
                 result = e.getResult();
                 if (result == null || result.getFileModel() == null) {
-                    return new InterimResult(
+                    return CompletableFuture.completedFuture(new InterimResult(
                             modelBuildingRequest,
-                            new DefaultProjectBuildingResult(e.getModelId(), pomFile, convert(e.getProblems())));
+                            new DefaultProjectBuildingResult(e.getModelId(), pomFile, convert(e.getProblems()))));
                 }
                 // validation error, continue project building and delay failing to help IDEs
                 // result.getProblems().addAll(e.getProblems()) ?
@@ -767,13 +750,18 @@ private InterimResult build(
                 }
 
                 if (!subprojectFiles.isEmpty()) {
-                    interimResult.subprojects = build(projectIndex, subprojectFiles, aggregatorFiles, false, recursive);
+                    return build(projectIndex, subprojectFiles, aggregatorFiles, false, recursive)
+                            .thenApply(subprojectResults -> {
+                                interimResult.subprojects = subprojectResults;
+                                projectIndex.put(pomFile, project);
+                                return interimResult;
+                            });
                 }
             }
 
             projectIndex.put(pomFile, project);
 
-            return interimResult;
+            return CompletableFuture.completedFuture(interimResult);
         }
 
         private Model getModelWithInterpolatedVersion(
@@ -829,7 +817,7 @@ public String getValue(String key) {
             return model;
         }
 
-        private List<ProjectBuildingResult> build(
+        private CompletableFuture<List<ProjectBuildingResult>> build(
                 Map<File, MavenProject> projectIndex, List<InterimResult> interimResults) {
             // The transformation may need to access dependencies raw models,
             // which may cause some re-entrance in the build() method and can
@@ -857,48 +845,38 @@ private List<ProjectBuildingResult> build(
                 results.add(res);
             }
             if (failure) {
-                return results;
+                return CompletableFuture.completedFuture(results);
             }
 
-            List<Callable<List<ProjectBuildingResult>>> callables = interimResults.stream()
-                    .map(interimResult ->
-                            (Callable<List<ProjectBuildingResult>>) () -> doBuild(projectIndex, interimResult))
-                    .collect(Collectors.toList());
+            return all(interimResults.stream()
+                            .map(interimResult -> CompletableFuture.supplyAsync(
+                                            () -> doBuild(projectIndex, interimResult), executor)
+                                    .thenCompose(Function.identity()))
+                            .toList())
+                    .thenApply(lists -> lists.stream().flatMap(List::stream).collect(Collectors.toList()));
+        }
 
-            try {
-                List<Future<List<ProjectBuildingResult>>> futures = executor.invokeAll(callables);
-                return futures.stream()
-                        .map(listFuture -> {
-                            try {
-                                return listFuture.get();
-                            } catch (InterruptedException e) {
-                                uncheckedThrow(e);
-                                return null;
-                            } catch (ExecutionException e) {
-                                uncheckedThrow(e.getCause());
-                                return null;
-                            }
-                        })
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList());
-            } catch (InterruptedException e) {
-                uncheckedThrow(e);
-                return null;
-            }
+        private <T> CompletableFuture<List<T>> all(List<CompletableFuture<T>> futures) {
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(
+                            v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
         }
 
-        private List<ProjectBuildingResult> doBuild(Map<File, MavenProject> projectIndex, InterimResult interimResult) {
+        private CompletableFuture<List<ProjectBuildingResult>> doBuild(
+                Map<File, MavenProject> projectIndex, InterimResult interimResult) {
             if (interimResult.projectBuildingResult != null) {
-                return Collections.singletonList(interimResult.projectBuildingResult);
+                return CompletableFuture.completedFuture(
+                        Collections.singletonList(interimResult.projectBuildingResult));
             }
             MavenProject project = interimResult.project;
+            List<org.apache.maven.model.building.ModelProblem> problems;
             try {
                 ModelBuilderResult result = modelBuilder.build(ModelBuilderRequest.builder(interimResult.request)
                         .interimResult(interimResult.result)
                         .build());
 
                 // 2nd pass of initialization: resolve and build parent if necessary
-                List<org.apache.maven.model.building.ModelProblem> problems = convert(result.getProblems());
+                problems = convert(result.getProblems());
                 try {
                     initProject(project, projectIndex, result);
                 } catch (InvalidArtifactRTException iarte) {
@@ -911,30 +889,39 @@ private List<ProjectBuildingResult> doBuild(Map<File, MavenProject> projectIndex
                             -1,
                             iarte));
                 }
+            } catch (ModelBuilderException e) {
+                return CompletableFuture.completedFuture(Collections.singletonList(toResult(interimResult, e)));
+            }
 
-                List<ProjectBuildingResult> results = build(projectIndex, interimResult.subprojects);
-
-                project.setExecutionRoot(interimResult.root);
-                project.setCollectedProjects(
-                        results.stream().map(ProjectBuildingResult::getProject).collect(Collectors.toList()));
-                DependencyResolutionResult resolutionResult = null;
-                if (request.isResolveDependencies()) {
-                    resolutionResult = resolveDependencies(project);
-                }
+            // subprojects are only scheduled once their aggregator has been initialized
+            return build(projectIndex, interimResult.subprojects).thenApply(results -> {
+                try {
+                    project.setExecutionRoot(interimResult.root);
+                    project.setCollectedProjects(results.stream()
+                            .map(ProjectBuildingResult::getProject)
+                            .collect(Collectors.toList()));
+                    DependencyResolutionResult resolutionResult = null;
+                    if (request.isResolveDependencies()) {
+                        resolutionResult = resolveDependencies(project);
+                    }
 
-                results.add(new DefaultProjectBuildingResult(project, problems, resolutionResult));
+                    results.add(new DefaultProjectBuildingResult(project, problems, resolutionResult));
 
-                return results;
-            } catch (ModelBuilderException e) {
-                DefaultProjectBuildingResult result;
-                if (project == null || interimResult.result.getEffectiveModel() == null) {
-                    result = new DefaultProjectBuildingResult(
-                            e.getModelId(), interimResult.pomFile, convert(e.getProblems()));
-                } else {
-                    project.setModel(new org.apache.maven.model.Model(interimResult.result.getEffectiveModel()));
-                    result = new DefaultProjectBuildingResult(project, convert(e.getProblems()), null);
+                    return results;
+                } catch (ModelBuilderException e) {
+                    return Collections.singletonList(toResult(interimResult, e));
                 }
-                return Collections.singletonList(result);
+            });
+        }
+
+        private ProjectBuildingResult toResult(InterimResult interimResult, ModelBuilderException e) {
+            MavenProject project = interimResult.project;
+            if (project == null || interimResult.result.getEffectiveModel() == null) {
+                return new DefaultProjectBuildingResult(
+                        e.getModelId(), interimResult.pomFile, convert(e.getProblems()));
+            } else {
+                project.setModel(new org.apache.maven.model.Model(interimResult.result.getEffectiveModel()));
+                return new DefaultProjectBuildingResult(project, convert(e.getProblems()), null);
             }
         }
 
@@ -25,9 +25,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -62,8 +61,6 @@
  */
 public class ProjectModelResolver implements ModelResolver {
 
-    private static final int MAX_CAP = 0x7fff;
-
     private final RepositorySystemSession session;
 
     private final RequestTrace trace;
@@ -191,38 +188,25 @@ public ModelSource resolveModel(final Parent parent, AtomicReference<Parent> mod
             throws UnresolvableModelException {
         Result result;
         try {
-            Future<Result> future = parentCache.computeIfAbsent(parent.getId(), id -> {
-                ForkJoinPool pool = new ForkJoinPool(MAX_CAP);
-                ForkJoinTask<Result> task = new ForkJoinTask<>() {
-                    Result result;
-
-                    @Override
-                    public Result getRawResult() {
-                        return result;
-                    }
-
-                    @Override
-                    protected void setRawResult(Result result) {
-                        this.result = result;
-                    }
-
-                    @Override
-                    protected boolean exec() {
-                        try {
-                            AtomicReference<Parent> modified = new AtomicReference<>();
-                            ModelSource source = doResolveModel(parent, modified);
-                            result = new Result(source, modified.get(), null);
-                        } catch (Exception e) {
-                            result = new Result(null, null, e);
-                        } finally {
-                            pool.shutdown();
-                        }
-                        return true;
-                    }
-                };
-                pool.submit(task);
-                return task;
-            });
+            // Single flight: the first caller resolves the parent on its own thread, concurrent
+            // callers for the same parent wait for that result instead of resolving it again.
+            CompletableFuture<Result> created = new CompletableFuture<>();
+            Future<Result> future = parentCache.putIfAbsent(parent.getId(), created);
+            if (future == null) {
+                future = created;
+                try {
+                    AtomicReference<Parent> resolved = new AtomicReference<>();
+                    ModelSource source = doResolveModel(parent, resolved);
+                    created.complete(new Result(source, resolved.get(), null));
+                } catch (Exception e) {
+                    created.complete(new Result(null, null, e));
+                } catch (Throwable t) {
+                    // do not keep errors, the next caller retries, but release the callers waiting meanwhile
+                    parentCache.remove(parent.getId(), created);
+                    created.completeExceptionally(t);
+                    throw t;
+                }
+            }
             result = future.get();
         } catch (Exception e) {
             throw new UnresolvableModelException(e, parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
@@ -30,7 +30,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
@@ -159,7 +162,17 @@ public boolean equals(Object o) {
     }
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
-    protected final Map<Key, Key> keys = new ConcurrentHashMap<>();
+
+    /**
+     * The resolutions in progress, waited for by the concurrent requests of the same key.
+     */
+    private final Map<Key, CompletableFuture<CacheRecord>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
 
     @Override
     public Key createKey(
@@ -175,7 +188,7 @@ public Key createKey(
                 scopesToResolve,
                 aggregating,
                 session);
-        return keys.computeIfAbsent(key, k -> k);
+        return key;
     }
 
     @Override
@@ -216,6 +229,95 @@ public CacheRecord put(Key key, LifecycleExecutionException exception) {
         return record;
     }
 
+    /**
+     * Gets the record cached for the given key, or resolves it. Only one resolution is done at a time for a key:
+     * the concurrent requests of the same key wait for it, and share its result or its exception.
+     */
+    @Override
+    public CacheRecord computeIfAbsent(Key key, Resolver resolver) throws LifecycleExecutionException {
+        CacheRecord record = cache.get(key);
+        if (record != null) {
+            hits.increment();
+            return checked(record);
+        }
+        CompletableFuture<CacheRecord> future = new CompletableFuture<>();
+        CompletableFuture<CacheRecord> pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) {
+            coalesced.increment();
+            return await(pending);
+        }
+        try {
+            // the resolution may have completed since the first lookup
+            record = cache.get(key);
+            if (record != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                try {
+                    record = put(key, resolver.resolve());
+                } catch (LifecycleExecutionException e) {
+                    record = put(key, e);
+                }
+            }
+            future.complete(record);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+        return checked(record);
+    }
+
+    private static CacheRecord await(CompletableFuture<CacheRecord> future) throws LifecycleExecutionException {
+        CacheRecord record;
+        try {
+            record = future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return checked(record);
+    }
+
+    private static CacheRecord checked(CacheRecord record) throws LifecycleExecutionException {
+        if (record.getException() != null) {
+            throw record.getException();
+        }
+        return record;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @since 4.0.0
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of requests which resolved the artifacts.
+     *
+     * @since 4.0.0
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of requests which waited for the resolution of a concurrent request.
+     *
+     * @since 4.0.0
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
     protected void assertUniqueKey(Key key) {
         if (cache.containsKey(key)) {
             throw new IllegalStateException("Duplicate artifact resolution result for project " + key);
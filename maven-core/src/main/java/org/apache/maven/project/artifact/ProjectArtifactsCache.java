@@ -46,6 +46,13 @@ interface ArtifactsSetWithResult extends Set<Artifact> {
         DependencyResolutionResult getResult();
     }
 
+    /**
+     * Resolves the artifacts of a project, on a cache miss.
+     */
+    interface Resolver {
+        Set<Artifact> resolve() throws LifecycleExecutionException;
+    }
+
     /**
      * CacheRecord
      */
@@ -87,6 +94,35 @@ Key createKey(
 
     CacheRecord put(Key key, LifecycleExecutionException e);
 
+    /**
+     * Gets the record cached for the given key, or resolves and caches it. The default implementation relies on
+     * {@link #createKey} returning the same instance for equal keys; implementations should ensure that concurrent
+     * calls for the same key only resolve once, the other callers sharing the result.
+     *
+     * @param key The cache key, must not be {@code null}.
+     * @param resolver The resolver of the artifacts, called on a cache miss, must not be {@code null}.
+     * @return The cache record, never {@code null}.
+     * @throws LifecycleExecutionException If the resolution failed, now or during a previous call.
+     * @since 4.0.0
+     */
+    default CacheRecord computeIfAbsent(Key key, Resolver resolver) throws LifecycleExecutionException {
+        CacheRecord record = get(key);
+        if (record == null) {
+            synchronized (key) {
+                record = get(key);
+                if (record == null) {
+                    try {
+                        record = put(key, resolver.resolve());
+                    } catch (LifecycleExecutionException e) {
+                        put(key, e);
+                        throw e;
+                    }
+                }
+            }
+        }
+        return record;
+    }
+
     void flush();
 
     /**
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares walking an output directory of 20k class files on each up-to-date check
+ * with the fingerprint cached by the {@link ReactorReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(time = 10)
+public class ReactorReaderPerfTest {
+
+    @State(Scope.Benchmark)
+    public static class OutputDirectoryState {
+        Path outputDirectory;
+        Map<String, ReactorReader.OutputFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            outputDirectory = Files.createTempDirectory("classes");
+            for (int p = 0; p < 200; p++) {
+                Path pkg = Files.createDirectories(outputDirectory.resolve("org/apache/maven/pkg" + p));
+                for (int c = 0; c < 100; c++) {
+                    Files.write(pkg.resolve("Class" + c + ".class"), new byte[] {(byte) 0xCA, (byte) 0xFE});
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                paths.sorted(Comparator.reverseOrder())
+                        .forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public long walk(OutputDirectoryState state) throws IOException {
+        return ReactorReader.OutputFingerprint.compute(state.outputDirectory).lastModified;
+    }
+
+    @Benchmark
+    public long fingerprint(OutputDirectoryState state) throws IOException {
+        String projectId = "org.apache.maven:project:jar:1.0";
+        ReactorReader.OutputFingerprint fingerprint = state.fingerprints.get(projectId);
+        if (fingerprint == null) {
+            fingerprint = ReactorReader.OutputFingerprint.compute(state.outputDirectory);
+            state.fingerprints.putIfAbsent(projectId, fingerprint);
+        }
+        return fingerprint.lastModified;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ReactorReaderPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.services.Lookup;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.artifact.Artifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactorReaderTest {
+
+    @TempDir
+    Path root;
+
+    private MavenProject project;
+
+    private Path jar;
+
+    private final Artifact artifact =
+            new org.eclipse.aether.artifact.DefaultArtifact("org.apache.maven.its:module:1.0");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path pom = Files.writeString(root.resolve("pom.xml"), "<project/>");
+        jar = Files.writeString(Files.createDirectories(root.resolve("target")).resolve("module-1.0.jar"), "classes");
+
+        project = new MavenProject();
+        project.setGroupId("org.apache.maven.its");
+        project.setArtifactId("module");
+        project.setVersion("1.0");
+        project.setPackaging("jar");
+        project.setFile(pom.toFile());
+        project.getBuild().setDirectory(root.resolve("target").toString());
+        project.getBuild().setOutputDirectory(root.resolve("target/classes").toString());
+        DefaultArtifact projectArtifact = new DefaultArtifact(
+                "org.apache.maven.its", "module", "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        projectArtifact.setFile(jar.toFile());
+        project.setArtifact(projectArtifact);
+    }
+
+    @Test
+    void testCopy() throws Exception {
+        Path installed = install("copy");
+
+        assertFalse(Files.isSymbolicLink(installed));
+        assertFalse(Files.isSameFile(jar, installed));
+        assertEquals("classes", Files.readString(installed));
+    }
+
+    @Test
+    void testHardLink() throws Exception {
+        Path installed = install("hardlink");
+
+        assertFalse(Files.isSymbolicLink(installed));
+        assertTrue(Files.isSameFile(jar, installed));
+    }
+
+    @Test
+    void testSymbolicLink() throws Exception {
+        Path installed = install("symlink");
+
+        assertTrue(Files.isSymbolicLink(installed));
+        assertEquals(jar.toAbsolutePath(), Files.readSymbolicLink(installed));
+    }
+
+    @Test
+    void testCloneIsIndependentOfTheBuiltArtifact() throws Exception {
+        // without copy-on-write clones, as on most file systems, the artifact is copied
+        Path installed = install("clone");
+        Files.writeString(jar, "rebuilt classes");
+
+        assertFalse(Files.isSymbolicLink(installed));
+        assertEquals("classes", Files.readString(installed));
+    }
+
+    @Test
+    void testUnknownStrategyFallsBackToCopy() throws Exception {
+        Path installed = install("unknown");
+
+        assertFalse(Files.isSymbolicLink(installed));
+        assertFalse(Files.isSameFile(jar, installed));
+    }
+
+    @Test
+    void testDanglingSymbolicLinkIsRemoved() throws Exception {
+        Path installed = install("symlink");
+        // a clean of the module deletes the linked artifact
+        Files.delete(jar);
+
+        assertNull(newReactorReader(List.of(), "symlink").findArtifact(artifact));
+        assertFalse(Files.exists(installed, LinkOption.NOFOLLOW_LINKS));
+    }
+
+    @Test
+    void testOutputFingerprintIsInvalidatedByTheMojosOfTheProject() throws Exception {
+        Path outputDirectory = Files.createDirectories(root.resolve("target/classes"));
+        Path first = Files.writeString(outputDirectory.resolve("First.class"), "first");
+        Path second = Files.writeString(outputDirectory.resolve("Second.class"), "second");
+        Files.setLastModifiedTime(first, FileTime.fromMillis(2000_000));
+        Files.setLastModifiedTime(second, FileTime.fromMillis(1000_000));
+        ReactorReader reactorReader = newReactorReader(List.of(project), "copy");
+
+        ReactorReader.OutputFingerprint fingerprint = reactorReader.getOutputFingerprint(project, outputDirectory);
+        assertEquals(first, fingerprint.newestFile);
+        assertEquals(2000_000, fingerprint.lastModified);
+
+        // the fingerprint is kept until a mojo of the project runs
+        Files.setLastModifiedTime(second, FileTime.fromMillis(3000_000));
+        assertSame(fingerprint, reactorReader.getOutputFingerprint(project, outputDirectory));
+
+        newSpy(reactorReader).onEvent(event(ExecutionEvent.Type.MojoSucceeded, null));
+        fingerprint = reactorReader.getOutputFingerprint(project, outputDirectory);
+        assertEquals(second, fingerprint.newestFile);
+        assertEquals(3000_000, fingerprint.lastModified);
+    }
+
+    @Test
+    void testOutputFingerprintComputedDuringAMojoIsNotKept() throws Exception {
+        Path outputDirectory = Files.createDirectories(root.resolve("target/classes"));
+        Files.writeString(outputDirectory.resolve("First.class"), "first");
+        AtomicInteger walks = new AtomicInteger();
+        ReactorReader reactorReader = new ReactorReader(newReactorReaderSession(List.of(project), "copy")) {
+            @Override
+            OutputFingerprint computeOutputFingerprint(Path directory) throws IOException {
+                OutputFingerprint fingerprint = super.computeOutputFingerprint(directory);
+                if (walks.incrementAndGet() == 1) {
+                    // a mojo of the project starts during the first walk
+                    try {
+                        newSpy(this).onEvent(event(ExecutionEvent.Type.MojoStarted, mock(MojoExecution.class)));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return fingerprint;
+            }
+        };
+
+        reactorReader.getOutputFingerprint(project, outputDirectory);
+        reactorReader.getOutputFingerprint(project, outputDirectory);
+        assertEquals(2, walks.get());
+        reactorReader.getOutputFingerprint(project, outputDirectory);
+        assertEquals(2, walks.get());
+    }
+
+    /**
+     * Packages the project with the given install strategy, then looks its artifact up from the next build.
+     */
+    private Path install(String strategy) throws Exception {
+        ReactorReader reactorReader = newReactorReader(List.of(project), strategy);
+        ReactorReader.ReactorReaderSpy spy = newSpy(reactorReader);
+        MojoExecution mojoExecution = mock(MojoExecution.class);
+        when(mojoExecution.getLifecyclePhase()).thenReturn("package");
+        spy.onEvent(event(ExecutionEvent.Type.MojoStarted, mojoExecution));
+        spy.onEvent(event(ExecutionEvent.Type.ProjectSucceeded, null));
+
+        File found = newReactorReader(List.of(), strategy).findArtifact(artifact);
+        assertNotNull(found);
+        Path installed = root.resolve("target/project-local-repo/org.apache.maven.its/module/1.0/module-1.0.jar");
+        assertEquals(installed, found.toPath());
+        return installed;
+    }
+
+    private static ReactorReader.ReactorReaderSpy newSpy(ReactorReader reactorReader) {
+        Lookup lookup = mock(Lookup.class);
+        when(lookup.lookup(ReactorReader.class)).thenReturn(reactorReader);
+        return new ReactorReader.ReactorReaderSpy(lookup);
+    }
+
+    private ExecutionEvent event(ExecutionEvent.Type type, MojoExecution mojoExecution) {
+        ExecutionEvent event = mock(ExecutionEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getProject()).thenReturn(project);
+        when(event.getMojoExecution()).thenReturn(mojoExecution);
+        return event;
+    }
+
+    private ReactorReader newReactorReader(List<MavenProject> projects, String strategy) {
+        return new ReactorReader(newReactorReaderSession(projects, strategy));
+    }
+
+    private MavenSession newReactorReaderSession(List<MavenProject> projects, String strategy) {
+        MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        request.setMultiModuleProjectDirectory(root.toFile());
+        Properties userProperties = new Properties();
+        userProperties.setProperty(Constants.MAVEN_PROJECT_LOCAL_REPO_INSTALL_STRATEGY, strategy);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRequest()).thenReturn(request);
+        when(session.getUserProperties()).thenReturn(userProperties);
+        when(session.getProjects()).thenReturn(projects);
+        when(session.getAllProjects()).thenReturn(projects);
+        return session;
+    }
+}
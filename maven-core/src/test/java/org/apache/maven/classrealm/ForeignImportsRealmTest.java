@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ForeignImportsRealmTest {
+
+    private static final List<String> IMPORTS = List.of(
+            "org.apache.maven",
+            "org.apache.maven.*",
+            "org.apache.maven.plugin",
+            "org.apache.maven.plugin.*",
+            "org.apache.maven.plugin.MojoExecution",
+            "org.apache.maven.project.*",
+            "org.slf4j.*",
+            "org.slf4j.spi",
+            "javax.inject",
+            "org.codehaus.plexus.util.xml.Xpp3Dom",
+            "org.codehaus.plexus.util.xml.pull.*",
+            "META-INF.plexus",
+            ".*");
+
+    private static final List<String> NAMES = List.of(
+            "org.apache.maven.Maven",
+            "org.apache.maven.Maven$Inner",
+            "org.apache.maven.model.Model",
+            "org.apache.maven.plugin.Mojo",
+            "org.apache.maven.plugin.MojoExecution",
+            "org.apache.maven.plugin.MojoExecution$Source",
+            "org.apache.maven.plugin.MojoExecutionException",
+            "org.apache.maven.plugin.descriptor.MojoDescriptor",
+            "org.apache.maven.project.MavenProject",
+            "org.apache.maven.project.artifact.ProjectArtifact",
+            "org.apache.mavenx.Other",
+            "org.slf4j.Logger",
+            "org.slf4j.spi.LocationAwareLogger",
+            "org.slf4j.helpers.NOPLogger",
+            "javax.inject.Named",
+            "javax.injection.Named",
+            "org.codehaus.plexus.util.xml.Xpp3Dom",
+            "org.codehaus.plexus.util.xml.Xpp3DomBuilder",
+            "org.codehaus.plexus.util.xml.pull.XmlPullParser",
+            "Unnamed",
+            "java.lang.String",
+            "org/apache/maven/Maven.class",
+            "org/apache/maven/model/Model.class",
+            "org/apache/maven/plugin/MojoExecution.class",
+            "org/apache/maven/plugin/MojoExecution$Source.class",
+            "org/apache/maven/plugin/descriptor/MojoDescriptor.class",
+            "org/apache/maven/project/pom-4.0.0.xml",
+            "org/slf4j/spi/LocationAwareLogger.class",
+            "org/codehaus/plexus/util/xml/Xpp3Dom.class",
+            "org/codehaus/plexus/util/xml/pull/XmlPullParser.class",
+            "javax/inject/Named.class",
+            "META-INF/plexus/components.xml",
+            "META-INF/maven/extension.xml",
+            "META-INF.plexus/components.xml",
+            "/absolute.txt",
+            "org.apache.maven/resource.txt");
+
+    @Test
+    void testMatchesLikeRealm() {
+        assertMatchesLikeRealm(imports(IMPORTS));
+    }
+
+    @Test
+    void testMatchesLikeRealmWithDefaultImport() {
+        Map<String, ClassLoader> imports = imports(IMPORTS);
+        imports.put("", newRealm(""));
+        assertMatchesLikeRealm(imports);
+    }
+
+    @Test
+    void testDelegatesToImports() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        ForeignImportsRealm index =
+                new ForeignImportsRealm(null, "test", Map.of("org.junit.jupiter.api", loader, "java.lang.*", loader));
+
+        assertSame(Test.class, index.loadClass(Test.class.getName()));
+        assertSame(String.class, index.loadClass(String.class.getName()));
+        assertThrows(
+                ClassNotFoundException.class, () -> index.loadClass(getClass().getName()));
+        assertEquals(
+                loader.getResource("org/junit/jupiter/api/Test.class"),
+                index.getResource("org/junit/jupiter/api/Test.class"));
+        assertNull(index.getResource("org/apache/maven/classrealm/ForeignImportsRealmTest.class"));
+        assertFalse(index.getResources("META-INF/MANIFEST.MF").hasMoreElements());
+    }
+
+    private static void assertMatchesLikeRealm(Map<String, ClassLoader> imports) {
+        ClassRealm realm = newRealm("realm");
+        imports.forEach((imp, loader) -> realm.importFrom(loader, imp));
+        ForeignImportsRealm index = new ForeignImportsRealm(null, realm.getId(), imports);
+
+        for (String name : NAMES) {
+            assertSame(realm.getImportClassLoader(name), index.getImportClassLoader(name), name);
+        }
+        // the imported realms remain visible
+        assertEquals(new HashSet<>(realm.getImportRealms()), new HashSet<>(index.getImportRealms()));
+    }
+
+    private static Map<String, ClassLoader> imports(List<String> packages) {
+        Map<String, ClassLoader> imports = new LinkedHashMap<>();
+        for (String imp : packages) {
+            imports.put(imp, newRealm(imp));
+        }
+        return imports;
+    }
+
+    private static ClassRealm newRealm(String id) {
+        return new ClassRealm(null, id, null);
+    }
+}
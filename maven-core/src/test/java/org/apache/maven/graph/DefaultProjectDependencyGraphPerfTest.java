@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.CycleDetectedException;
+import org.apache.maven.project.DuplicateProjectException;
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Queries the upstream and downstream projects of all the projects of a generated reactor of 5,000 modules,
+ * each one depending on up to 8 modules built before it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class DefaultProjectDependencyGraphPerfTest {
+
+    static final int MODULES = 5000;
+
+    static final int DEPENDENCIES = 8;
+
+    @State(Scope.Benchmark)
+    public static class ReactorState {
+        List<MavenProject> projects;
+
+        ProjectDependencyGraph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() throws CycleDetectedException, DuplicateProjectException {
+            Random random = new Random(0);
+            projects = new ArrayList<>(MODULES);
+            for (int m = 0; m < MODULES; m++) {
+                List<Dependency> dependencies = new ArrayList<>();
+                for (int d = 0; m > 0 && d < DEPENDENCIES; d++) {
+                    // mostly depend on recent modules, as in layered reactors
+                    int upstream = Math.max(0, m - 1 - random.nextInt(Math.min(m, 50) * (d % 4 == 0 ? 20 : 1)));
+                    MavenProject dependency = projects.get(upstream);
+                    if (dependencies.stream()
+                            .noneMatch(dep -> dep.getArtifactId().equals(dependency.getArtifactId()))) {
+                        dependencies.add(toDependency(dependency));
+                    }
+                }
+                projects.add(createProject("module-" + m, dependencies));
+            }
+            graph = new DefaultProjectDependencyGraph(projects);
+        }
+
+        private static MavenProject createProject(String artifactId, List<Dependency> dependencies) {
+            MavenProject project = new MavenProject();
+            project.setGroupId("org.example");
+            project.setArtifactId(artifactId);
+            project.setVersion("1.0");
+            project.setDependencies(dependencies);
+            return project;
+        }
+
+        private static Dependency toDependency(MavenProject project) {
+            Dependency dependency = new Dependency();
+            dependency.setGroupId(project.getGroupId());
+            dependency.setArtifactId(project.getArtifactId());
+            dependency.setVersion(project.getVersion());
+            return dependency;
+        }
+    }
+
+    @Benchmark
+    public void directUpstreamProjects(ReactorState state, Blackhole blackhole) {
+        for (MavenProject project : state.projects) {
+            blackhole.consume(state.graph.getUpstreamProjects(project, false));
+        }
+    }
+
+    @Benchmark
+    public void transitiveUpstreamProjects(ReactorState state, Blackhole blackhole) {
+        for (MavenProject project : state.projects) {
+            blackhole.consume(state.graph.getUpstreamProjects(project, true));
+        }
+    }
+
+    @Benchmark
+    public void transitiveDownstreamProjects(ReactorState state, Blackhole blackhole) {
+        for (MavenProject project : state.projects) {
+            blackhole.consume(state.graph.getDownstreamProjects(project, true));
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DefaultProjectDependencyGraphPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
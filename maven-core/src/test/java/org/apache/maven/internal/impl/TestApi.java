@@ -72,6 +72,8 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @PlexusTest
@@ -252,4 +254,52 @@ void testProjectDependencies() {
             dep.getVersion();
         }
     }
+
+    @Test
+    void testProjectDependenciesAreCached() {
+        Artifact pom = session.createArtifact("org.codehaus.plexus", "plexus-container-default", "1.0-alpha-32", "pom");
+        Project project = project(pom);
+        DependencyResolver resolver = session.getService(DependencyResolver.class);
+
+        DependencyResolverResult runtime = resolver.resolve(session, project, PathScope.MAIN_RUNTIME);
+        assertSame(runtime, resolver.resolve(session, project, PathScope.MAIN_RUNTIME));
+
+        // the other scopes are resolved from the same dependency graph
+        DependencyResolverResult compile = resolver.resolve(session, project, PathScope.MAIN_COMPILE);
+        assertSame(runtime.getRoot(), compile.getRoot());
+        assertSame(compile, resolver.resolve(session, project, PathScope.MAIN_COMPILE));
+    }
+
+    @Test
+    void testCachedProjectDependenciesCannotBeModified() {
+        Artifact pom = session.createArtifact("org.codehaus.plexus", "plexus-container-default", "1.0-alpha-32", "pom");
+        Project project = project(pom);
+        DependencyResolver resolver = session.getService(DependencyResolver.class);
+
+        DependencyResolverResult result = resolver.resolve(session, project, PathScope.MAIN_RUNTIME);
+        int paths = result.getPaths().size();
+        int dispatched = result.getDispatchedPaths().values().stream()
+                .mapToInt(List::size)
+                .sum();
+        assertTrue(paths > 0);
+        assertThrows(
+                UnsupportedOperationException.class, () -> result.getPaths().clear());
+        assertThrows(
+                UnsupportedOperationException.class, () -> result.getNodes().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getDependencies()
+                .clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getDispatchedPaths()
+                .clear());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> result.getDispatchedPaths().values().iterator().next().clear());
+
+        DependencyResolverResult again = resolver.resolve(session, project, PathScope.MAIN_RUNTIME);
+        assertEquals(paths, again.getPaths().size());
+        assertEquals(
+                dispatched,
+                again.getDispatchedPaths().values().stream()
+                        .mapToInt(List::size)
+                        .sum());
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedReadWriteLockTest {
+
+    private final MojoExecutor.StripedReadWriteLock lock = new MojoExecutor.StripedReadWriteLock(8);
+
+    @Test
+    void testReadersDoNotBlockEachOther() {
+        Lock readLock = lock.readLock();
+        assertTrue(readLock.tryLock());
+        try {
+            assertTrue(supplyAsync(() -> {
+                Lock other = lock.readLock();
+                boolean locked = other.tryLock();
+                if (locked) {
+                    other.unlock();
+                }
+                return locked;
+            }));
+            // a reader blocks the aggregator, whatever its stripe
+            assertFalse(supplyAsync(() -> lock.writeLock().tryLock()));
+        } finally {
+            readLock.unlock();
+        }
+        assertTrue(lock.writeLock().tryLock());
+        lock.writeLock().unlock();
+    }
+
+    @Test
+    void testAggregatorBlocksReaders() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            assertSame(Thread.currentThread(), lock.getOwner());
+            // the aggregator may run non aggregating mojos
+            assertTrue(lock.readLock().tryLock());
+            lock.readLock().unlock();
+            assertFalse(supplyAsync(() -> lock.readLock().tryLock()));
+        } finally {
+            writeLock.unlock();
+        }
+        assertNull(lock.getOwner());
+        assertTrue(supplyAsync(() -> {
+            Lock readLock = lock.readLock();
+            boolean locked = readLock.tryLock();
+            if (locked) {
+                readLock.unlock();
+            }
+            return locked;
+        }));
+    }
+
+    @Test
+    void testTimedAggregatorLockIsRolledBack() throws InterruptedException {
+        Lock readLock = lock.readLock();
+        assertTrue(readLock.tryLock());
+        try {
+            assertFalse(supplyAsync(() -> tryWriteLock(50)));
+            // the stripes acquired before the timeout are released
+            assertNull(lock.getOwner());
+        } finally {
+            readLock.unlock();
+        }
+        assertTrue(supplyAsync(() -> {
+            boolean locked = tryWriteLock(50);
+            if (locked) {
+                lock.writeLock().unlock();
+            }
+            return locked;
+        }));
+        assertNull(lock.getOwner());
+    }
+
+    private boolean tryWriteLock(long millis) {
+        try {
+            return lock.writeLock().tryLock(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean supplyAsync(Supplier<Boolean> supplier) {
+        return CompletableFuture.supplyAsync(supplier, r -> new Thread(r).start())
+                .join();
+    }
+}
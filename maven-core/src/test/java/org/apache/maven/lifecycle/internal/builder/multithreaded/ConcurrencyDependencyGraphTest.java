@@ -27,7 +27,14 @@
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConcurrencyDependencyGraphTest {
 
@@ -88,4 +95,20 @@ void testGraph() throws Exception {
         // waiting for C
         assertEquals(1, activeDependenciesX.size());
     }
+
+    @Test
+    void testProjectsAreScheduledOnce() throws Exception {
+        ProjectBuildList projectBuildList =
+                ProjectDependencyGraphStub.getProjectBuildList(ProjectDependencyGraphStub.getMavenSession());
+        ConcurrencyDependencyGraph graph =
+                new ConcurrencyDependencyGraph(projectBuildList, new ProjectDependencyGraphStub());
+
+        assertEquals(List.of(B, C), graph.markAsFinished(A));
+        assertTrue(graph.markAsFinished(A).isEmpty());
+        assertEquals(List.of(Y), graph.markAsFinished(B));
+        // X also waits for C
+        assertEquals(List.of(X, Z), graph.markAsFinished(C));
+        assertTrue(graph.markAsFinished(X).isEmpty());
+        assertEquals(Set.of(Y, Z), graph.getUnfinishedProjects());
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.CREATED;
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.EXECUTED;
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.SCHEDULED;
+
+/**
+ * Measures the scheduling overhead of the concurrent builder on a synthetic build plan,
+ * comparing the full plan rescans with the ready-queue scheduler.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BuildPlanSchedulingPerfTest {
+
+    static final int STEPS_PER_PROJECT = 25;
+
+    @State(Scope.Benchmark)
+    public static class PlanState {
+        @Param({"5000", "50000"})
+        int steps;
+
+        BuildPlan plan;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            plan = createPlan(steps / STEPS_PER_PROJECT, STEPS_PER_PROJECT);
+            plan.sortedNodes();
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            plan.allSteps().forEach(step -> step.status.set(CREATED));
+        }
+    }
+
+    /**
+     * Creates a plan where each project is a chain of steps, and where the first step
+     * of each project depends on the last step of two upstream projects.
+     */
+    static BuildPlan createPlan(int projects, int stepsPerProject) {
+        BuildPlan plan = new BuildPlan();
+        BuildStep[] lasts = new BuildStep[projects];
+        for (int i = 0; i < projects; i++) {
+            MavenProject project = new MavenProject();
+            project.setGroupId("org.apache.maven.its");
+            project.setArtifactId("module-" + i);
+            Map<String, BuildStep> steps = new LinkedHashMap<>();
+            BuildStep previous = null;
+            for (int j = 0; j < stepsPerProject; j++) {
+                BuildStep step = new BuildStep("step-" + j, project, null);
+                if (previous != null) {
+                    step.predecessors.add(previous);
+                    previous.successors.add(step);
+                } else if (i > 0) {
+                    for (BuildStep upstream : new BuildStep[] {lasts[i - 1], lasts[i / 2]}) {
+                        step.predecessors.add(upstream);
+                        upstream.successors.add(step);
+                    }
+                }
+                steps.put(step.name, step);
+                previous = step;
+            }
+            lasts[i] = previous;
+            plan.addProject(project, steps);
+        }
+        return plan;
+    }
+
+    @Benchmark
+    public int scan(PlanState state) {
+        List<BuildStep> sortedNodes = state.plan.sortedNodes();
+        Deque<BuildStep> queue = new ArrayDeque<>();
+        int executed = 0;
+        rescan(sortedNodes, queue);
+        while (!queue.isEmpty()) {
+            queue.poll().status.set(EXECUTED);
+            executed++;
+            rescan(sortedNodes, queue);
+        }
+        return executed;
+    }
+
+    private static void rescan(List<BuildStep> sortedNodes, Deque<BuildStep> queue) {
+        sortedNodes.stream()
+                .filter(step -> step.status.get() == CREATED)
+                .filter(step -> step.predecessors.stream().allMatch(s -> s.status.get() == EXECUTED))
+                .filter(step -> step.status.compareAndSet(CREATED, SCHEDULED))
+                .forEach(queue::add);
+    }
+
+    @Benchmark
+    public int readyQueue(PlanState state) {
+        Deque<BuildStep> queue = new ArrayDeque<>();
+        int executed = 0;
+        state.plan.allSteps().forEach(step -> {
+            step.resetPendingPredecessors();
+            if (step.pendingPredecessors.get() == 0 && step.status.compareAndSet(CREATED, SCHEDULED)) {
+                queue.add(step);
+            }
+        });
+        while (!queue.isEmpty()) {
+            BuildStep step = queue.poll();
+            step.status.set(EXECUTED);
+            executed++;
+            for (BuildStep ready : step.release()) {
+                if (ready.status.compareAndSet(CREATED, SCHEDULED)) {
+                    queue.add(ready);
+                }
+            }
+        }
+        return executed;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(BuildPlanSchedulingPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildStepDurationsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCriticalPaths() {
+        // 3 projects with 2 steps each, forming a single chain
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(3, 2);
+        BuildStep p0s0 = plan.allSteps().toList().get(0);
+        BuildStep p2s1 = plan.allSteps().toList().get(5);
+
+        BuildStepDurations durations = new BuildStepDurations(null);
+        durations.record(p2s1, 100);
+        durations.computeCriticalPaths(plan);
+
+        assertEquals(100, p2s1.criticalPath);
+        // p0s0 -> p0s1 -> p1s0 -> p1s1 -> p2s0 -> p2s1
+        assertEquals(105, p0s0.criticalPath);
+    }
+
+    @Test
+    void testCriticalPathsOfStepsAddedAfterSorting() {
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(1, 1);
+        BuildStep first = plan.allSteps().findFirst().get();
+        plan.sortedNodes();
+        BuildStep added = new BuildStep("added", first.project, null);
+        added.executeAfter(first);
+        plan.addStep(first.project, added.name, added);
+
+        BuildStepDurations durations = new BuildStepDurations(null);
+        durations.record(added, 100);
+        durations.computeCriticalPaths(plan);
+
+        assertEquals(100, added.criticalPath);
+        assertEquals(101, first.criticalPath);
+    }
+
+    @Test
+    void testPersistence() {
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(2, 2);
+        BuildStep step = plan.allSteps().findFirst().get();
+        Path file = tempDir.resolve("target/build-durations.properties");
+
+        BuildStepDurations durations = BuildStepDurations.load(file);
+        assertEquals(BuildStepDurations.UNKNOWN_DURATION, durations.get(step));
+        durations.record(step, 42);
+        durations.save();
+
+        assertEquals(42, BuildStepDurations.load(file).get(step));
+    }
+
+    @Test
+    void testPersistenceWithRelativeFile() {
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(1, 1);
+        BuildStep step = plan.allSteps().findFirst().get();
+        // a file relative to the working directory, which is only resolved when saving
+        Path file = Path.of("").toAbsolutePath().relativize(tempDir.resolve("build-durations.properties"));
+        assertFalse(file.isAbsolute());
+
+        BuildStepDurations durations = new BuildStepDurations(file);
+        durations.record(step, 42);
+        durations.save();
+
+        assertTrue(Files.isRegularFile(tempDir.resolve("build-durations.properties")));
+        assertEquals(42, BuildStepDurations.load(file).get(step));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.CREATED;
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.EXECUTED;
+import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.SCHEDULED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildStepTest {
+
+    @Test
+    void testReadyQueueExecutesAllStepsInOrder() {
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(20, 5);
+
+        Deque<BuildStep> queue = new ArrayDeque<>();
+        plan.allSteps().forEach(step -> {
+            step.resetPendingPredecessors();
+            if (step.pendingPredecessors.get() == 0 && step.status.compareAndSet(CREATED, SCHEDULED)) {
+                queue.add(step);
+            }
+        });
+        assertEquals(1, queue.size());
+
+        List<BuildStep> executed = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            BuildStep step = queue.poll();
+            step.predecessors.forEach(p -> assertEquals(EXECUTED, p.status.get(), "Predecessor not executed: " + p));
+            step.status.set(EXECUTED);
+            executed.add(step);
+            for (BuildStep ready : step.release()) {
+                assertTrue(ready.status.compareAndSet(CREATED, SCHEDULED), "Step scheduled twice: " + ready);
+                queue.add(ready);
+            }
+        }
+
+        assertEquals(100, executed.size());
+    }
+
+    @Test
+    void testResetIgnoresExecutedPredecessors() {
+        BuildPlan plan = BuildPlanSchedulingPerfTest.createPlan(3, 2);
+        BuildStep first = plan.allSteps().findFirst().get();
+        first.status.set(EXECUTED);
+
+        plan.allSteps().forEach(BuildStep::resetPendingPredecessors);
+
+        first.successors.forEach(s -> assertEquals(0, s.pendingPredecessors.get()));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConcurrentLogOutputTest {
+
+    PrintStream oldOut;
+    ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        oldOut = System.out;
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(oldOut);
+    }
+
+    @Test
+    void testBufferedSpillsAndReplaysInOrder() throws Exception {
+        MavenProject project = new MavenProject();
+        project.setArtifactId("p1");
+        try (ConcurrentLogOutput output = new ConcurrentLogOutput(false, 2)) {
+            try (AutoCloseable ctx = output.build(project)) {
+                for (int i = 0; i < 5; i++) {
+                    output.accept("message " + i);
+                }
+                assertEquals("", output());
+            }
+        }
+        assertEquals(List.of("message 0", "message 1", "message 2", "message 3", "message 4"), lines());
+    }
+
+    @Test
+    void testLivePrefixesMessages() throws Exception {
+        MavenProject project = new MavenProject();
+        project.setArtifactId("p1");
+        try (ConcurrentLogOutput output = new ConcurrentLogOutput(true, 2)) {
+            try (AutoCloseable ctx = output.build(project)) {
+                output.accept("message 0");
+                assertEquals(List.of("[p1] message 0"), lines());
+                output.accept("line 1\nline 2");
+            }
+        }
+        assertEquals(List.of("[p1] message 0", "[p1] line 1", "[p1] line 2"), lines());
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<String> lines() {
+        return output().lines().toList();
+    }
+}
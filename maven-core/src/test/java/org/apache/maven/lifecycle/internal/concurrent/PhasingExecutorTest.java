@@ -18,11 +18,22 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class PhasingExecutorTest {
 
     @Test
@@ -32,6 +43,70 @@ void testPhaser() {
         p.await();
     }
 
+    @Test
+    void testPriority() throws InterruptedException {
+        try (PhasingExecutor p = PhasingExecutor.prioritized(1, Executors.defaultThreadFactory())) {
+            CountDownLatch latch = new CountDownLatch(1);
+            List<Long> executed = new CopyOnWriteArrayList<>();
+            // block the single thread so that the next tasks are queued
+            p.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            p.execute(() -> executed.add(1L), 1);
+            p.execute(() -> executed.add(5L), 5);
+            p.execute(() -> executed.add(3L), 3);
+            p.execute(() -> executed.add(0L));
+            latch.countDown();
+            p.await();
+            assertEquals(List.of(5L, 3L, 1L, 0L), executed);
+        }
+    }
+
+    @Test
+    void testFailingTaskDoesNotKillThread() {
+        AtomicInteger threads = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            threads.incrementAndGet();
+            return Executors.defaultThreadFactory().newThread(r);
+        };
+        try (PhasingExecutor p = PhasingExecutor.prioritized(1, threadFactory)) {
+            List<Long> executed = new CopyOnWriteArrayList<>();
+            p.execute(() -> {
+                throw new IllegalStateException("expected");
+            });
+            p.execute(() -> executed.add(1L));
+            p.await();
+            assertEquals(List.of(1L), executed);
+            assertEquals(1, threads.get());
+        }
+    }
+
+    @Test
+    void testFailingTaskWithAnErrorIsNotSwallowed() throws InterruptedException {
+        AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        ThreadFactory threadFactory = r -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setUncaughtExceptionHandler((th, e) -> {
+                uncaught.set(e);
+                latch.countDown();
+            });
+            return thread;
+        };
+        try (PhasingExecutor p = PhasingExecutor.prioritized(1, threadFactory)) {
+            p.execute(() -> {
+                throw new LinkageError("expected");
+            });
+            p.await();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertInstanceOf(LinkageError.class, uncaught.get());
+        }
+    }
+
     private void waitSomeTime(Executor executor, int nb) {
         try {
             Thread.sleep(10);
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Project;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.settings.Settings;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Evaluates the configuration of a plugin with 200 parameter expressions from 32 threads
+ * sharing the same evaluator, as done by concurrent builds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+public class PluginParameterExpressionEvaluatorPerfTest {
+
+    static final int PARAMETERS = 200;
+
+    static final String[] TEMPLATES = {
+        "${project.groupId}",
+        "${project.artifactId}",
+        "${project.version}",
+        "${project.build.directory}",
+        "${project.build.outputDirectory}",
+        "${project.build.finalName}.jar",
+        "${project.basedir}/src/main/resources-%d",
+        "${project.build.directory}/generated-sources/gen-%d",
+        "${project.model.properties(prop.%d)}",
+        "${settings.localRepository}",
+        "${prop.%d}",
+        "$${prop.%d}",
+        "${project.artifactId}-${project.version}-%d",
+        "plain-value-%d",
+    };
+
+    @State(Scope.Benchmark)
+    public static class PluginState {
+        PluginParameterExpressionEvaluatorV4 evaluator;
+
+        String[] parameters;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < PARAMETERS; i++) {
+                properties.put("prop." + i, i % 4 == 0 ? "${project.build.directory}/" + i : "value-" + i);
+            }
+            Model model = Model.newBuilder()
+                    .groupId("org.apache.maven.its")
+                    .artifactId("plugin-parameters")
+                    .version("1.0-SNAPSHOT")
+                    .properties(properties)
+                    .build(Build.newBuilder()
+                            .directory("/project/target")
+                            .outputDirectory("/project/target/classes")
+                            .finalName("plugin-parameters-1.0-SNAPSHOT")
+                            .build())
+                    .build();
+            Path basedir = Paths.get("/project");
+
+            Project project = mock(Project.class, withSettings().stubOnly());
+            doReturn(model).when(project).getModel();
+            doReturn(model.getGroupId()).when(project).getGroupId();
+            doReturn(model.getArtifactId()).when(project).getArtifactId();
+            doReturn(model.getVersion()).when(project).getVersion();
+            doReturn(model.getBuild()).when(project).getBuild();
+            doReturn(basedir).when(project).getBasedir();
+
+            Session session = mock(Session.class, withSettings().stubOnly());
+            doReturn(properties).when(session).getEffectiveProperties(project);
+            doReturn(basedir).when(session).getTopDirectory();
+            doReturn(Settings.newBuilder().localRepository("/repository").build())
+                    .when(session)
+                    .getSettings();
+
+            evaluator = new PluginParameterExpressionEvaluatorV4(session, project);
+            parameters = new String[PARAMETERS];
+            for (int i = 0; i < PARAMETERS; i++) {
+                parameters[i] = String.format(TEMPLATES[i % TEMPLATES.length], i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void configure(PluginState state, Blackhole blackhole) throws ExpressionEvaluationException {
+        for (String parameter : state.parameters) {
+            blackhole.consume(state.evaluator.evaluate(parameter, String.class));
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(PluginParameterExpressionEvaluatorPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
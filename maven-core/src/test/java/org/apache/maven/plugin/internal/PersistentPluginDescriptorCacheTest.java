@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.codehaus.plexus.configuration.PlexusConfigurationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentPluginDescriptorCacheTest {
+
+    private static final String LEGACY_DESCRIPTOR = "<plugin>"
+            + "<groupId>org.apache.maven.plugins</groupId>"
+            + "<artifactId>maven-touch-plugin</artifactId>"
+            + "<version>1.0</version>"
+            + "<goalPrefix>touch</goalPrefix>"
+            + "<mojos><mojo><goal>touch</goal><implementation>org.apache.maven.plugins.TouchMojo</implementation>"
+            + "<parameters><parameter><name>file</name><type>java.io.File</type></parameter></parameters>"
+            + "<configuration><file implementation=\"java.io.File\">${project.build.directory}/touch.txt</file>"
+            + "</configuration></mojo></mojos>"
+            + "</plugin>";
+
+    private static final String V4_DESCRIPTOR = "<plugin xmlns=\"" + PluginDescriptorBuilder.PLUGIN_2_0_0 + "\">"
+            + "<groupId>org.apache.maven.plugins</groupId>"
+            + "<artifactId>maven-touch-plugin</artifactId>"
+            + "<version>2.0</version>"
+            + "<goalPrefix>touch</goalPrefix>"
+            + "<mojos><mojo><goal>touch</goal><implementation>org.apache.maven.plugins.TouchMojo</implementation>"
+            + "<parameters><parameter><name>file</name><type>java.nio.file.Path</type></parameter>"
+            + "<parameter><name>force</name><type>boolean</type></parameter>"
+            + "<parameter><name>time</name><type>long</type></parameter></parameters>"
+            + "</mojo></mojos>"
+            + "</plugin>";
+
+    @TempDir
+    Path localRepository;
+
+    @Test
+    void testLegacyDescriptorIsPersisted() throws Exception {
+        Path jar = createPlugin("1.0", LEGACY_DESCRIPTOR);
+
+        AtomicInteger reads = new AtomicInteger();
+        PluginDescriptor descriptor = readPluginDescriptor(jar, reads);
+        assertEquals(1, reads.get());
+
+        // a new session reuses the persisted descriptor
+        PluginDescriptor cached = readPluginDescriptor(jar, reads);
+        assertEquals(1, reads.get());
+        assertEquals(descriptor.getId(), cached.getId());
+        assertEquals(jar.toString(), cached.getSource());
+        MojoDescriptor mojo = cached.getMojo("touch");
+        assertFalse(mojo.isV4Api());
+        assertEquals("org.apache.maven.plugins.TouchMojo", mojo.getImplementation());
+        assertEquals("java.io.File", mojo.getParameterMap().get("file").getType());
+        assertEquals(
+                "${project.build.directory}/touch.txt",
+                mojo.getMojoConfiguration().getChild("file").getValue());
+
+        // modifying the JAR file invalidates the persisted descriptor
+        createPlugin("1.0", LEGACY_DESCRIPTOR.replace("touch.txt", "touched.txt"));
+        readPluginDescriptor(jar, reads);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testV4DescriptorIsPersisted() throws Exception {
+        Path jar = createPlugin("2.0", V4_DESCRIPTOR);
+
+        AtomicInteger reads = new AtomicInteger();
+        readPluginDescriptor(jar, reads);
+        PluginDescriptor cached = readPluginDescriptor(jar, reads);
+        assertEquals(1, reads.get());
+        assertEquals("org.apache.maven.plugins:maven-touch-plugin:2.0", cached.getId());
+        MojoDescriptor mojo = cached.getMojo("touch");
+        assertTrue(mojo.isV4Api());
+        assertEquals("java.nio.file.Path", mojo.getParameterMap().get("file").getType());
+        assertEquals(3, mojo.getParameters().size());
+    }
+
+    @Test
+    void testOnlyDescriptorClassesAreDeserialized() throws Exception {
+        Path jar = createPlugin("2.0", V4_DESCRIPTOR);
+
+        AtomicInteger reads = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            new PersistentPluginDescriptorCache(localRepository).computeIfAbsent(jar, () -> {
+                reads.incrementAndGet();
+                return new HashMap<>(Map.of("key", "value"));
+            });
+        }
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testMissingDescriptorIsNotPersisted() throws Exception {
+        Path jar = createPlugin("3.0", null);
+
+        AtomicInteger reads = new AtomicInteger();
+        assertNull(readPluginDescriptor(jar, reads));
+        assertNull(readPluginDescriptor(jar, reads));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testPluginOutsideLocalRepositoryIsNotPersisted(@TempDir Path project) throws Exception {
+        Path jar = project.resolve("target/maven-touch-plugin-1.0.jar");
+        Files.createDirectories(jar.getParent());
+        writeJar(jar, LEGACY_DESCRIPTOR);
+
+        AtomicInteger reads = new AtomicInteger();
+        readPluginDescriptor(jar, reads);
+        readPluginDescriptor(jar, reads);
+        assertEquals(2, reads.get());
+    }
+
+    private Path createPlugin(String version, String descriptor) throws Exception {
+        Path jar = localRepository.resolve(
+                "org/apache/maven/plugins/maven-touch-plugin/" + version + "/maven-touch-plugin-" + version + ".jar");
+        Files.createDirectories(jar.getParent());
+        writeJar(jar, descriptor);
+        return jar;
+    }
+
+    private static void writeJar(Path jar, String descriptor) throws Exception {
+        try (OutputStream os = Files.newOutputStream(jar);
+                ZipOutputStream zos = new ZipOutputStream(os)) {
+            if (descriptor != null) {
+                zos.putNextEntry(new ZipEntry("META-INF/maven/plugin.xml"));
+                zos.write(descriptor.getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            } else {
+                zos.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+                zos.closeEntry();
+            }
+        }
+    }
+
+    private PluginDescriptor readPluginDescriptor(Path jar, AtomicInteger reads) throws Exception {
+        PluginDescriptorBuilder builder = new PluginDescriptorBuilder();
+        PersistentPluginDescriptorCache cache = new PersistentPluginDescriptorCache(localRepository);
+        Serializable descriptor = cache.computeIfAbsent(jar, () -> {
+            reads.incrementAndGet();
+            try (JarFile file = new JarFile(jar.toFile())) {
+                ZipEntry entry = file.getEntry("META-INF/maven/plugin.xml");
+                if (entry == null) {
+                    return null;
+                }
+                byte[] content = file.getInputStream(entry).readAllBytes();
+                return builder.read(() -> new ByteArrayInputStream(content));
+            } catch (PlexusConfigurationException e) {
+                throw new IOException(e);
+            }
+        });
+        return descriptor != null ? builder.build(descriptor, jar.toString()) : null;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.AbstractCoreMavenComponentTestCase;
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Builds a synthetic reactor where each leaf module has a chain of 5 parents, sequentially and in parallel,
+ * and checks that both builds give the same projects.
+ */
+class ProjectBuilderParallelismTest extends AbstractCoreMavenComponentTestCase {
+
+    static final int BRANCHES = 4;
+    static final int DEPTH = 4;
+    static final int LEAVES = 5;
+
+    @TempDir
+    Path rootDirectory;
+
+    @Override
+    protected String getProjectsDirectory() {
+        return "src/test/projects/project-builder";
+    }
+
+    @Test
+    void testBuildReactorInParallel() throws Exception {
+        File rootPom = createReactor(rootDirectory, BRANCHES, DEPTH, LEAVES);
+
+        List<String> sequential = null;
+        for (int parallelism : List.of(1, DefaultProjectBuilder.DEFAULT_BUILDER_PARALLELISM)) {
+            MavenSession mavenSession = createMavenSession(null);
+            mavenSession.getRequest().setRootDirectory(rootDirectory);
+            ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+            configuration.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+            configuration.setRepositorySession(mavenSession.getRepositorySession());
+            Properties userProperties = new Properties();
+            userProperties.setProperty(Constants.MAVEN_PROJECT_BUILDER_PARALLELISM, String.valueOf(parallelism));
+            configuration.setUserProperties(userProperties);
+
+            List<ProjectBuildingResult> results =
+                    projectBuilder.build(Collections.singletonList(rootPom), true, configuration);
+
+            assertEquals(1 + BRANCHES * (DEPTH + LEAVES), results.size());
+            List<String> projects = new ArrayList<>();
+            for (ProjectBuildingResult result : results) {
+                assertThat(result.getProblems(), empty());
+                MavenProject project = result.getProject();
+                assertNotNull(project);
+                assertEquals(project.getArtifactId(), project.getName());
+                projects.add(project.getId());
+            }
+            if (sequential == null) {
+                sequential = projects;
+            } else {
+                assertEquals(sequential, projects, "parallelism " + parallelism);
+            }
+        }
+    }
+
+    /**
+     * Creates a root aggregator with the given number of branches, each branch being a chain
+     * of {@code depth} nested aggregators, the innermost one aggregating {@code leaves} modules.
+     */
+    static File createReactor(Path root, int branches, int depth, int leaves) throws IOException {
+        Files.createDirectories(root.resolve(".mvn"));
+        List<String> branchModules = new ArrayList<>();
+        for (int b = 0; b < branches; b++) {
+            branchModules.add("branch-" + b);
+        }
+        writePom(root, "root", null, "pom", branchModules);
+        for (int b = 0; b < branches; b++) {
+            Path dir = root;
+            String parent = "root";
+            for (int d = 1; d <= depth; d++) {
+                dir = dir.resolve(d == 1 ? "branch-" + b : "level-" + d);
+                String artifactId = "branch-" + b + "-level-" + d;
+                List<String> modules = new ArrayList<>();
+                if (d < depth) {
+                    modules.add("level-" + (d + 1));
+                } else {
+                    for (int l = 0; l < leaves; l++) {
+                        modules.add("leaf-" + l);
+                    }
+                }
+                writePom(dir, artifactId, parent, "pom", modules);
+                parent = artifactId;
+            }
+            for (int l = 0; l < leaves; l++) {
+                writePom(dir.resolve("leaf-" + l), "branch-" + b + "-leaf-" + l, parent, "jar", List.of());
+            }
+        }
+        return root.resolve("pom.xml").toFile();
+    }
+
+    private static void writePom(Path dir, String artifactId, String parent, String packaging, List<String> modules)
+            throws IOException {
+        StringBuilder pom = new StringBuilder(1024);
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+        if (parent != null) {
+            pom.append("  <parent>\n");
+            pom.append("    <groupId>org.apache.maven.its</groupId>\n");
+            pom.append("    <artifactId>").append(parent).append("</artifactId>\n");
+            pom.append("    <version>1.0</version>\n");
+            pom.append("  </parent>\n");
+        } else {
+            pom.append("  <groupId>org.apache.maven.its</groupId>\n");
+            pom.append("  <version>1.0</version>\n");
+        }
+        pom.append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+        pom.append("  <packaging>").append(packaging).append("</packaging>\n");
+        pom.append("  <name>${project.artifactId}</name>\n");
+        if (!modules.isEmpty()) {
+            pom.append("  <modules>\n");
+            for (String module : modules) {
+                pom.append("    <module>").append(module).append("</module>\n");
+            }
+            pom.append("  </modules>\n");
+        }
+        pom.append("</project>\n");
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("pom.xml"), pom);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.maven.AbstractCoreMavenComponentTestCase;
+import org.apache.maven.api.Constants;
+import org.apache.maven.bridge.MavenRepositorySystem;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.eclipse.aether.RepositorySystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.codehaus.plexus.testing.PlexusExtension.getBasedir;
+
+/**
+ * Builds a synthetic reactor of 2,000 modules, where each leaf module has a chain of 5 parents,
+ * sequentially and with the parallelism of the project builder.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ProjectBuilderPerfTest {
+
+    static final int BRANCHES = 40;
+    static final int DEPTH = 4;
+    static final int LEAVES = 46;
+
+    @State(Scope.Benchmark)
+    public static class ReactorState extends AbstractCoreMavenComponentTestCase {
+        @Param({"1", "4"})
+        int parallelism;
+
+        DefaultPlexusContainer plexusContainer;
+
+        Path rootDirectory;
+
+        File rootPom;
+
+        ProjectBuildingRequest configuration;
+
+        @Override
+        protected String getProjectsDirectory() {
+            return "src/test/projects/project-builder";
+        }
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            rootDirectory = Files.createTempDirectory("reactor");
+            rootPom = ProjectBuilderParallelismTest.createReactor(rootDirectory, BRANCHES, DEPTH, LEAVES);
+
+            plexusContainer = new DefaultPlexusContainer(new DefaultContainerConfiguration()
+                    .setName("perf")
+                    .setContext(Map.<Object, Object>of("basedir", getBasedir()))
+                    .setAutoWiring(true)
+                    .setClassPathScanning(PlexusConstants.SCANNING_INDEX));
+            container = plexusContainer;
+            repositorySystem = container.lookup(RepositorySystem.class);
+            mavenRepositorySystem = container.lookup(MavenRepositorySystem.class);
+            projectBuilder = container.lookup(org.apache.maven.project.ProjectBuilder.class);
+
+            MavenSession mavenSession = createMavenSession(null);
+            mavenSession.getRequest().setRootDirectory(rootDirectory);
+            configuration = new DefaultProjectBuildingRequest();
+            configuration.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+            configuration.setRepositorySession(mavenSession.getRepositorySession());
+            Properties userProperties = new Properties();
+            userProperties.setProperty(Constants.MAVEN_PROJECT_BUILDER_PARALLELISM, String.valueOf(parallelism));
+            configuration.setUserProperties(userProperties);
+        }
+
+        List<ProjectBuildingResult> build() throws ProjectBuildingException {
+            return projectBuilder.build(Collections.singletonList(rootPom), true, configuration);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            plexusContainer.dispose();
+            try (Stream<Path> paths = Files.walk(rootDirectory)) {
+                paths.sorted(Comparator.reverseOrder())
+                        .forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ProjectBuildingResult> build(ReactorState state) throws ProjectBuildingException {
+        return state.build();
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ProjectBuilderPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
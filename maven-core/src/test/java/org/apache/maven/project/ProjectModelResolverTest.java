@@ -21,6 +21,8 @@
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.maven.artifact.InvalidRepositoryException;
@@ -41,6 +43,12 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test cases for the project {@code ModelResolver} implementation.
@@ -71,6 +79,32 @@ void testResolveParentThrowsUnresolvableModelExceptionWhenNotFound() throws Exce
         assertThat(e.getMessage(), containsString("Could not find artifact org.apache:apache:pom:0 in central"));
     }
 
+    @Test
+    void testResolveParentIsRetriedAfterAnError() throws Exception {
+        final Parent parent = new Parent();
+        parent.setGroupId("org.apache");
+        parent.setArtifactId("apache");
+        parent.setVersion("0");
+
+        RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        when(repositorySystem.resolveVersionRange(any(), any())).thenThrow(new LinkageError("linkage"));
+        Map<String, Object> parentCache = new ConcurrentHashMap<>();
+        ProjectModelResolver resolver = new ProjectModelResolver(
+                new DefaultRepositorySystemSession(h -> false),
+                null,
+                repositorySystem,
+                getContainer().lookup(RemoteRepositoryManager.class),
+                this.getRemoteRepositories(),
+                ProjectBuildingRequest.RepositoryMerging.REQUEST_DOMINANT,
+                null,
+                parentCache);
+
+        assertThrows(LinkageError.class, () -> resolver.resolveModel(parent.getDelegate(), new AtomicReference<>()));
+        assertTrue(parentCache.isEmpty());
+        assertThrows(LinkageError.class, () -> resolver.resolveModel(parent.getDelegate(), new AtomicReference<>()));
+        verify(repositorySystem, times(2)).resolveVersionRange(any(), any());
+    }
+
     @Test
     void testResolveParentThrowsUnresolvableModelExceptionWhenNoMatchingVersionFound() throws Exception {
         final Parent parent = new Parent();
@@ -18,16 +18,29 @@
  */
 package org.apache.maven.project.artifact;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.internal.SetWithResolutionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DefaultProjectArtifactsCacheTest {
 
@@ -68,4 +81,69 @@ void testProjectDependencyOrder() throws Exception {
                 reversedArtifacts.toArray(new Artifact[0]),
                 cache.get(project2).getArtifacts().toArray(new Artifact[0]));
     }
+
+    @Test
+    void testConcurrentRequestsResolveOnce() throws Exception {
+        DefaultProjectArtifactsCache cache = new DefaultProjectArtifactsCache();
+        int threads = 32;
+        int projects = 4;
+        List<ProjectArtifactsCache.Key> keys = new ArrayList<>();
+        List<AtomicInteger> resolutions = new ArrayList<>();
+        for (int i = 0; i < projects; i++) {
+            keys.add(new ProjectArtifactsCache.Key() {});
+            resolutions.add(new AtomicInteger());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<ProjectArtifactsCache.CacheRecord>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<ProjectArtifactsCache.CacheRecord> records = new ArrayList<>();
+                    for (int i = 0; i < projects; i++) {
+                        int project = (offset + i) % projects;
+                        records.add(cache.computeIfAbsent(keys.get(project), () -> {
+                            resolutions.get(project).incrementAndGet();
+                            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                            return new SetWithResolutionResult(null, new LinkedHashSet<>());
+                        }));
+                    }
+                    return records;
+                }));
+            }
+            start.countDown();
+            for (Future<List<ProjectArtifactsCache.CacheRecord>> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < projects; i++) {
+            assertEquals(1, resolutions.get(i).get());
+        }
+        assertEquals(projects, cache.getMissCount());
+        assertEquals((long) threads * projects, cache.getHitCount() + cache.getMissCount() + cache.getCoalescedCount());
+    }
+
+    @Test
+    void testFailedResolutionIsShared() throws Exception {
+        DefaultProjectArtifactsCache cache = new DefaultProjectArtifactsCache();
+        ProjectArtifactsCache.Key key = new ProjectArtifactsCache.Key() {};
+        LifecycleExecutionException failure = new LifecycleExecutionException("unresolvable");
+        AtomicInteger resolutions = new AtomicInteger();
+        ProjectArtifactsCache.Resolver resolver = () -> {
+            resolutions.incrementAndGet();
+            throw failure;
+        };
+
+        assertSame(
+                failure, assertThrows(LifecycleExecutionException.class, () -> cache.computeIfAbsent(key, resolver)));
+        assertSame(
+                failure, assertThrows(LifecycleExecutionException.class, () -> cache.computeIfAbsent(key, resolver)));
+        assertEquals(1, resolutions.get());
+    }
 }
@@ -29,8 +29,8 @@
 import java.util.AbstractList;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -61,6 +61,11 @@ public class InjectorImpl implements Injector {
     private final Map<Class<? extends Annotation>, Supplier<Scope>> scopes = new HashMap<>();
     private final Set<String> loadedUrls = new HashSet<>();
 
+    /**
+     * The compiled bindings, by key, cleared when the bindings or scopes change.
+     */
+    private final Map<Key<?>, Supplier<?>> compiledBindings = new ConcurrentHashMap<>();
+
     public InjectorImpl() {
         bindScope(Singleton.class, new SingletonScope());
     }
@@ -118,6 +123,7 @@ public Injector bindScope(Class<? extends Annotation> scopeAnnotation, Supplier<
             throw new DIException(
                     "Cannot rebind scope annotation class to a different implementation: " + scopeAnnotation);
         }
+        compiledBindings.clear();
         return this;
     }
 
@@ -136,6 +142,7 @@ public Injector bindImplicit(Class<?> clazz) {
             if (key.getQualifier() != null) {
                 bindings.computeIfAbsent(Key.ofType(clazz), $ -> new HashSet<>());
             }
+            compiledBindings.clear();
         } else if (!Modifier.isAbstract(clazz.getModifiers())) {
             Binding<?> binding = ReflectionUtils.generateImplicitBinding(key);
             doBind(key, binding);
@@ -169,6 +176,7 @@ private Injector doBind(Key<?> key, Binding<?> binding) {
     protected <U> Injector bind(Key<U> key, Binding<U> b) {
         Set<Binding<?>> bindingSet = bindings.computeIfAbsent(key, $ -> new HashSet<>());
         bindingSet.add(b);
+        compiledBindings.clear();
         return this;
     }
 
@@ -185,14 +193,25 @@ public Map<Key<?>, Set<Binding<?>>> getBindings() {
         return bindings;
     }
 
+    @SuppressWarnings("unchecked")
     public <Q> Supplier<Q> getCompiledBinding(Dependency<Q> dep) {
         Key<Q> key = dep.key();
+        Supplier<Q> compiled = (Supplier<Q>) compiledBindings.get(key);
+        if (compiled == null) {
+            // not using computeIfAbsent, as compiling may recursively compile other bindings
+            compiled = doGetCompiledBinding(key);
+            if (compiled == null) {
+                return missingBinding(dep);
+            }
+            compiledBindings.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    private <Q> Supplier<Q> doGetCompiledBinding(Key<Q> key) {
         Set<Binding<Q>> res = getBindings(key);
         if (res != null && !res.isEmpty()) {
-            List<Binding<Q>> bindingList = new ArrayList<>(res);
-            Comparator<Binding<Q>> comparing = Comparator.comparing(Binding::getPriority);
-            bindingList.sort(comparing.reversed());
-            Binding<Q> binding = bindingList.get(0);
+            Binding<Q> binding = Collections.max(res, Comparator.comparing(Binding::getPriority));
             return compile(binding);
         }
         if (key.getRawType() == List.class) {
@@ -222,6 +241,11 @@ public <Q> Supplier<Q> getCompiledBinding(Dependency<Q> dep) {
                 return () -> (Q) map(map, Supplier::get);
             }
         }
+        return null;
+    }
+
+    private <Q> Supplier<Q> missingBinding(Dependency<Q> dep) {
+        Key<Q> key = dep.key();
         if (dep.optional()) {
             return () -> null;
         }
@@ -239,13 +263,16 @@ public <Q> Supplier<Q> getCompiledBinding(Dependency<Q> dep) {
     protected <Q> Supplier<Q> compile(Binding<Q> binding) {
         Supplier<Q> compiled = binding.compile(this::getCompiledBinding);
         if (binding.getScope() != null) {
-            Scope scope = scopes.entrySet().stream()
-                    .filter(e -> e.getKey().isInstance(binding.getScope()))
-                    .map(Map.Entry::getValue)
-                    .findFirst()
-                    .orElseThrow(() -> new DIException("Scope not bound for annotation "
-                            + binding.getScope().annotationType()))
-                    .get();
+            Supplier<Scope> scopeSupplier = scopes.get(binding.getScope().annotationType());
+            if (scopeSupplier == null) {
+                scopeSupplier = scopes.entrySet().stream()
+                        .filter(e -> e.getKey().isInstance(binding.getScope()))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElseThrow(() -> new DIException("Scope not bound for annotation "
+                                + binding.getScope().annotationType()));
+            }
+            Scope scope = scopeSupplier.get();
             compiled = scope.scope((Key<Q>) binding.getOriginalKey(), compiled);
         }
         return compiled;
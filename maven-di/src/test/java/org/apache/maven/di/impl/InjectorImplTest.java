@@ -375,4 +375,37 @@ public MyMojo(@Nullable MyService service) {
             }
         }
     }
+
+    @Test
+    void testCompiledBindingsFollowNewBindings() {
+        Injector injector =
+                Injector.create().bindImplicit(NewBindings.MyServiceImpl.class).bindImplicit(NewBindings.MyMojo.class);
+        List<NewBindings.MyService> services = injector.getInstance(new Key<List<NewBindings.MyService>>() {});
+        assertEquals(1, services.size());
+        assertNull(injector.getInstance(NewBindings.MyMojo.class).service);
+
+        injector.bindImplicit(NewBindings.AnotherServiceImpl.class);
+        services = injector.getInstance(new Key<List<NewBindings.MyService>>() {});
+        assertEquals(2, services.size());
+        assertInstanceOf(NewBindings.AnotherServiceImpl.class, injector.getInstance(NewBindings.MyMojo.class).service);
+    }
+
+    static class NewBindings {
+
+        interface MyService {}
+
+        @Named
+        static class MyServiceImpl implements MyService {}
+
+        @Named("another")
+        static class AnotherServiceImpl implements MyService {}
+
+        @Named
+        static class MyMojo {
+            @Inject
+            @Nullable
+            @Named("another")
+            MyService service;
+        }
+    }
 }
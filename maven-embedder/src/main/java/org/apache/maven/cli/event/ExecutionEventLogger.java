@@ -242,6 +242,11 @@ private void logReactorSummary(MavenSession session) {
                 }
                 buffer.append(buildTimeDuration);
                 buffer.append(']');
+                if (buildSummary.getBlockedTime() > 0) {
+                    buffer.append(" (blocked ");
+                    buffer.append(formatDuration(buildSummary.getBlockedTime()));
+                    buffer.append(')');
+                }
             } else if (buildSummary instanceof BuildFailure) {
                 buffer.append(builder().failure("FAILURE"));
                 buffer.append(" [");
@@ -20,8 +20,8 @@
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache of introspection information for a specific class instance.
@@ -45,9 +45,9 @@ private static final class CacheMiss {}
      * Cache of Methods, or CACHE_MISS, keyed by method
      * name and actual arguments used to find it.
      */
-    private final Map<String, Object> methodCache = new Hashtable<>();
+    private final Map<String, Object> methodCache = new ConcurrentHashMap<>();
 
-    private MethodMap methodMap = new MethodMap();
+    private final MethodMap methodMap = new MethodMap();
 
     /**
      * Standard constructor
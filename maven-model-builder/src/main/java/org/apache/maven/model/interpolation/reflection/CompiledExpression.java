@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.interpolation.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.annotations.Nullable;
+import org.apache.maven.model.interpolation.reflection.MethodMap.AmbiguousException;
+
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.EOF;
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.INDEXED_END;
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.INDEXED_START;
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.MAPPED_END;
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.MAPPED_START;
+import static org.apache.maven.model.interpolation.reflection.ReflectionValueExtractor.PROPERTY_START;
+
+/**
+ * An expression supported by {@link ReflectionValueExtractor}, parsed once into a list of segments.
+ * <p>
+ * The accessor of a property is looked up once per class and invoked through a {@link MethodHandle}.
+ * Compiled expressions are immutable and can be evaluated concurrently.
+ *
+ * @since 4.0.0
+ */
+public final class CompiledExpression {
+    private static final Object[] OBJECT_ARGS = new Object[0];
+
+    /**
+     * Maximum number of expressions kept by {@link #compile(String, boolean)}.
+     */
+    private static final int MAX_COMPILED = 4096;
+
+    private static final Map<String, CompiledExpression> TRIMMED = new ConcurrentHashMap<>();
+
+    private static final Map<String, CompiledExpression> UNTRIMMED = new ConcurrentHashMap<>();
+
+    /**
+     * The accessors of each class, keyed by property name. A {@link ClassValue} does not prevent
+     * the classes, and thus their class loaders, to be garbage collected.
+     */
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<Accessors>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors(type);
+        }
+    };
+
+    private static final Segment INVALID = value -> null;
+
+    private static final CompiledExpression NULL = new CompiledExpression(new Segment[] {INVALID});
+
+    private final Segment[] segments;
+
+    private CompiledExpression(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the compiled form of the given expression. Expressions are parsed once, and the same
+     * instance is returned for later calls with an equal expression, as long as the number of compiled
+     * expressions stays reasonable.
+     *
+     * @param expression not null expression
+     * @param trimRootToken trim root token yes/no.
+     * @return the compiled expression
+     * @see ReflectionValueExtractor#evaluate(String, Object, boolean)
+     */
+    public static CompiledExpression compile(@Nonnull String expression, boolean trimRootToken) {
+        Map<String, CompiledExpression> compiled = trimRootToken ? TRIMMED : UNTRIMMED;
+        CompiledExpression result = compiled.get(expression);
+        if (result == null) {
+            result = parse(expression, trimRootToken);
+            if (compiled.size() < MAX_COMPILED) {
+                CompiledExpression existing = compiled.putIfAbsent(expression, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates this expression on the given object.
+     *
+     * @param root the object to extract the value from
+     * @return the object defined by the expression
+     * @throws IntrospectionException if any
+     */
+    public Object evaluate(@Nullable Object root) throws IntrospectionException {
+        Object value = root;
+        for (int i = 0; value != null && i < segments.length; i++) {
+            value = segments[i].apply(value);
+        }
+        if (value instanceof Optional) {
+            value = ((Optional<?>) value).orElse(null);
+        }
+        return value;
+    }
+
+    private static CompiledExpression parse(String expression, boolean trimRootToken) {
+        if (expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
+            return NULL;
+        }
+
+        boolean hasDots = expression.indexOf(PROPERTY_START) >= 0;
+
+        final ReflectionValueExtractor.Tokenizer tokenizer;
+        if (trimRootToken && hasDots) {
+            tokenizer = new ReflectionValueExtractor.Tokenizer(expression);
+            tokenizer.nextPropertyName();
+            if (tokenizer.getPosition() == EOF) {
+                return NULL;
+            }
+        } else {
+            tokenizer = new ReflectionValueExtractor.Tokenizer("." + expression);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int propertyPosition = tokenizer.getPosition();
+        while (tokenizer.peekChar() != EOF) {
+            switch (tokenizer.skipChar()) {
+                case INDEXED_START:
+                    segments.add(new IndexedSegment(
+                            expression, propertyPosition, tokenizer.getPosition(), tokenizer.nextToken(INDEXED_END)));
+                    break;
+                case MAPPED_START:
+                    segments.add(new MappedSegment(
+                            expression, propertyPosition, tokenizer.getPosition(), tokenizer.nextToken(MAPPED_END)));
+                    break;
+                case PROPERTY_START:
+                    propertyPosition = tokenizer.getPosition();
+                    String property = tokenizer.nextPropertyName();
+                    segments.add(property != null ? new PropertySegment(property) : INVALID);
+                    break;
+                default:
+                    // could not parse expression
+                    segments.add(INVALID);
+                    return new CompiledExpression(segments.toArray(new Segment[0]));
+            }
+        }
+        return new CompiledExpression(segments.toArray(new Segment[0]));
+    }
+
+    @FunctionalInterface
+    private interface Segment {
+        Object apply(Object value) throws IntrospectionException;
+    }
+
+    private static final class IndexedSegment implements Segment {
+        private final String expression;
+
+        private final int from;
+
+        private final int to;
+
+        private final Integer index;
+
+        IndexedSegment(String expression, int from, int to, String indexStr) {
+            this.expression = expression;
+            this.from = from;
+            this.to = to;
+            Integer index;
+            try {
+                index = Integer.parseInt(indexStr);
+            } catch (NumberFormatException e) {
+                index = null;
+            }
+            this.index = index;
+        }
+
+        @Override
+        public Object apply(Object value) throws IntrospectionException {
+            if (index == null) {
+                return null;
+            }
+
+            try {
+                if (value.getClass().isArray()) {
+                    return Array.get(value, index);
+                }
+
+                if (value instanceof List) {
+                    return ((List<?>) value).get(index);
+                }
+            } catch (IndexOutOfBoundsException e) {
+                return null;
+            }
+
+            final String message = String.format(
+                    "The token '%s' at position '%d' refers to a java.util.List or an array, but the value "
+                            + "seems is an instance of '%s'",
+                    expression.subSequence(from, to), from, value.getClass());
+
+            throw new IntrospectionException(message);
+        }
+    }
+
+    private static final class MappedSegment implements Segment {
+        private final String expression;
+
+        private final int from;
+
+        private final int to;
+
+        private final String key;
+
+        MappedSegment(String expression, int from, int to, String key) {
+            this.expression = expression;
+            this.from = from;
+            this.to = to;
+            this.key = key;
+        }
+
+        @Override
+        public Object apply(Object value) throws IntrospectionException {
+            if (key == null) {
+                return null;
+            }
+
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).get(key);
+            }
+
+            final String message = String.format(
+                    "The token '%s' at position '%d' refers to a java.util.Map, but the value "
+                            + "seems is an instance of '%s'",
+                    expression.subSequence(from, to), from, value.getClass());
+
+            throw new IntrospectionException(message);
+        }
+    }
+
+    private static final class PropertySegment implements Segment {
+        private final String property;
+
+        /**
+         * The accessor used for the last evaluation: most expressions are always evaluated
+         * on objects of the same class.
+         */
+        private volatile Accessor last;
+
+        PropertySegment(String property) {
+            this.property = property;
+        }
+
+        @Override
+        public Object apply(Object value) throws IntrospectionException {
+            Accessor accessor = last;
+            if (accessor == null || accessor.type != value.getClass()) {
+                accessor = ACCESSORS.get(value.getClass()).get(property);
+                last = accessor;
+            }
+            return accessor.get(value);
+        }
+    }
+
+    private static final class Accessors {
+        private final Class<?> type;
+
+        private final Map<String, Accessor> accessors = new ConcurrentHashMap<>();
+
+        private volatile ClassMap classMap;
+
+        Accessors(Class<?> type) {
+            this.type = type;
+        }
+
+        Accessor get(String property) {
+            return accessors.computeIfAbsent(property, p -> new Accessor(type, getClassMap(), p));
+        }
+
+        private ClassMap getClassMap() {
+            ClassMap classMap = this.classMap;
+            if (classMap == null) {
+                classMap = new ClassMap(type);
+                this.classMap = classMap;
+            }
+            return classMap;
+        }
+    }
+
+    private static final class Accessor {
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+        final Class<?> type;
+
+        private final Method method;
+
+        private final MethodHandle handle;
+
+        private final AmbiguousException failure;
+
+        Accessor(Class<?> type, ClassMap classMap, String property) {
+            this.type = type;
+            String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
+            Method method = null;
+            AmbiguousException failure = null;
+            try {
+                for (String prefix : new String[] {"get", "is", "to", "as"}) {
+                    method = classMap.findMethod(prefix + methodBase);
+                    if (method != null) {
+                        break;
+                    }
+                }
+            } catch (AmbiguousException e) {
+                failure = e;
+            }
+            MethodHandle handle = null;
+            if (method != null) {
+                try {
+                    handle = MethodHandles.publicLookup().unreflect(method).asType(GETTER);
+                } catch (IllegalAccessException e) {
+                    // fall back to reflection
+                }
+            }
+            this.method = method;
+            this.handle = handle;
+            this.failure = failure;
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        Object get(Object value) throws IntrospectionException {
+            if (failure != null) {
+                throw new IntrospectionException(failure);
+            }
+            if (method == null) {
+                return null;
+            }
+            try {
+                if (handle != null) {
+                    return (Object) handle.invokeExact(value);
+                }
+                return method.invoke(value, OBJECT_ARGS);
+            } catch (InvocationTargetException e) {
+                throw new IntrospectionException(e.getTargetException());
+            } catch (Throwable e) {
+                throw new IntrospectionException(e);
+            }
+        }
+    }
+}
@@ -38,6 +38,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +48,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * ReflectionValueExtractorTest class.
@@ -571,4 +575,28 @@ public void testRootPropertyRegression() throws Exception {
         Object evalued = ReflectionValueExtractor.evaluate("description", project);
         assertNotNull(evalued);
     }
+
+    /**
+     * <p>testConcurrentEvaluation.</p>
+     *
+     * @throws Exception if any.
+     */
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        CompiledExpression expression = CompiledExpression.compile("project.dependencies[1].artifactId", true);
+        assertSame(expression, CompiledExpression.compile("project.dependencies[1].artifactId", true));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                results.add(executor.submit(() -> expression.evaluate(project)));
+            }
+            for (Future<Object> result : results) {
+                assertEquals("dep2", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Adds 10,000 dependencies and properties to a model through the v3 API,
+ * with and without an {@link BaseObject.EditSession edit session}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelEditPerfTest {
+
+    static final int COUNT = 10_000;
+
+    @Benchmark
+    public Model addDependencies() {
+        Model model = newModel();
+        addDependencies(model);
+        return model;
+    }
+
+    @Benchmark
+    public Model addDependenciesInEditSession() {
+        Model model = newModel();
+        try (BaseObject.EditSession session = model.beginEdit()) {
+            addDependencies(model);
+        }
+        return model;
+    }
+
+    @Benchmark
+    public Model addProperties() {
+        Model model = newModel();
+        addProperties(model);
+        return model;
+    }
+
+    @Benchmark
+    public Model addPropertiesInEditSession() {
+        Model model = newModel();
+        try (BaseObject.EditSession session = model.beginEdit()) {
+            addProperties(model);
+        }
+        return model;
+    }
+
+    private static Model newModel() {
+        Model model = new Model();
+        model.setGroupId("org.apache.maven.its");
+        model.setArtifactId("edit");
+        model.setVersion("1.0");
+        return model;
+    }
+
+    private static void addDependencies(Model model) {
+        for (int i = 0; i < COUNT; i++) {
+            Dependency dependency = new Dependency();
+            dependency.setGroupId("org.apache.maven.its");
+            dependency.setArtifactId("dep-" + i);
+            dependency.setVersion("1.0");
+            model.addDependency(dependency);
+        }
+    }
+
+    private static void addProperties(Model model) {
+        for (int i = 0; i < COUNT; i++) {
+            model.addProperty("property." + i, "value-" + i);
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ModelEditPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -21,9 +21,11 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests {@code Model}.
@@ -66,4 +68,37 @@ void testEqualsIdentity() {
     void testToStringNullSafe() {
         assertNotNull(new Model().toString());
     }
+
+    @Test
+    void testEditSession() {
+        Model model = new Model();
+        model.setBuild(new Build());
+        try (BaseObject.EditSession session = model.beginEdit()) {
+            Build build = model.getBuild();
+            Dependency dependency = new Dependency();
+            dependency.setArtifactId("first");
+            model.addDependency(dependency);
+            model.addProperty("key", "value");
+            build.addResource(new Resource());
+            dependency.setVersion("1.0");
+
+            // pending modifications are not visible on the delegates until read or committed
+            assertTrue(((org.apache.maven.api.model.Model) model.delegate)
+                    .getDependencies()
+                    .isEmpty());
+
+            model.getDependencies().add(new Dependency());
+            session.commit();
+            assertEquals(2, model.getDelegate().getDependencies().size());
+            assertEquals("1.0", model.getDelegate().getDependencies().get(0).getVersion());
+            assertEquals("value", model.getDelegate().getProperties().get("key"));
+            assertEquals(1, model.getDelegate().getBuild().getResources().size());
+
+            model.addModule("module");
+            assertEquals(1, model.getModules().size());
+        }
+        model.addModule("other");
+        assertEquals(2, model.getDelegate().getModules().size());
+        assertFalse(model.getDependencies().isEmpty());
+    }
 }
@@ -18,7 +18,10 @@
  */
 package org.apache.maven.model.v4;
 
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -40,6 +43,7 @@
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -47,6 +51,8 @@
 
 /**
  * <p>Xpp3DomPerfTest class.</p>
+ * Compares the ways of reading the POMs of the local repository. The {@link GCProfiler} reports the allocation
+ * rate of each one.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -82,6 +88,52 @@ public int readWithStax(AdditionState state) throws IOException, XMLStreamExcept
         return i;
     }
 
+    /**
+     * Reads with a new factory for each POM, as the reader used to do, for comparison with
+     * {@link #readWithStaxAndLocations(AdditionState)}.
+     */
+    @Benchmark
+    public int readWithNewFactory(AdditionState state) throws IOException, XMLStreamException {
+        int i = 0;
+        for (Path pom : state.poms) {
+            try (InputStream is = Files.newInputStream(pom)) {
+                XMLInputFactory factory = XMLInputFactory.newFactory();
+                factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+                XMLStreamReader parser = factory.createXMLStreamReader(new StreamSource(is, pom.toString()));
+                new MavenStaxReader().read(parser, true, new InputSource("id", pom.toString()));
+                i++;
+            } catch (XMLStreamException e) {
+                throw new RuntimeException("Error parsing: " + pom, e);
+            }
+        }
+        return i;
+    }
+
+    @Benchmark
+    public int readWithStaxAndLocations(AdditionState state) throws IOException, XMLStreamException {
+        return read(state, false);
+    }
+
+    @Benchmark
+    public int readWithStaxAndInternedStrings(AdditionState state) throws IOException, XMLStreamException {
+        return read(state, true);
+    }
+
+    private int read(AdditionState state, boolean internStrings) throws IOException {
+        int i = 0;
+        for (Path pom : state.poms) {
+            try (InputStream is = Files.newInputStream(pom)) {
+                MavenStaxReader reader = new MavenStaxReader();
+                reader.setInternStrings(internStrings);
+                reader.read(is, true, new InputSource("id", pom.toString()));
+                i++;
+            } catch (XMLStreamException e) {
+                throw new RuntimeException("Error parsing: " + pom, e);
+            }
+        }
+        return i;
+    }
+
     /**
      * <p>main.</p>
      *
@@ -89,7 +141,11 @@ public int readWithStax(AdditionState state) throws IOException, XMLStreamExcept
      * @throws org.openjdk.jmh.runner.RunnerException if any.
      */
     public static void main(String... args) throws RunnerException {
-        Options opts = new OptionsBuilder().forks(1).build();
+        Options opts = new OptionsBuilder()
+                .include(Xpp3DomPerfTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
         new Runner(opts).run();
     }
 }
@@ -27,6 +27,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -120,6 +121,44 @@ public PluginDescriptor build(StreamSupplier inputSupplier, String source) throw
         }
     }
 
+    /**
+     * Reads a {@code plugin.xml} without building its descriptor. The result is either the
+     * {@link org.apache.maven.api.plugin.descriptor.PluginDescriptor} of a {@value #PLUGIN_2_0_0} descriptor,
+     * or the {@link XmlNode} of an older descriptor. It is serializable, so that it can be stored and later
+     * given to {@link #build(Serializable, String)} instead of reading the same {@code plugin.xml} again.
+     *
+     * @since 4.0.0
+     */
+    public Serializable read(StreamSupplier inputSupplier) throws PlexusConfigurationException {
+        try (BufferedInputStream bis = new BufferedInputStream(inputSupplier.open(), BUFFER_SIZE)) {
+            bis.mark(BUFFER_SIZE);
+            XMLStreamReader xsr = XMLInputFactory.newFactory().createXMLStreamReader(bis);
+            xsr.nextTag();
+            String nsUri = xsr.getNamespaceURI();
+            try (BufferedInputStream bis2 = reset(inputSupplier, bis)) {
+                xsr = XMLInputFactory.newFactory().createXMLStreamReader(bis2);
+                return read(nsUri, xsr);
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new PlexusConfigurationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Builds a plugin descriptor from the result of {@link #read(StreamSupplier)}.
+     *
+     * @since 4.0.0
+     */
+    public PluginDescriptor build(Serializable descriptor, String source) throws PlexusConfigurationException {
+        if (descriptor instanceof org.apache.maven.api.plugin.descriptor.PluginDescriptor pd) {
+            return new PluginDescriptor(pd);
+        } else if (descriptor instanceof XmlNode node) {
+            return build(source, XmlPlexusConfiguration.toPlexusConfiguration(node));
+        } else {
+            throw new PlexusConfigurationException("Unsupported plugin descriptor " + descriptor);
+        }
+    }
+
     private static BufferedInputStream reset(StreamSupplier inputSupplier, BufferedInputStream bis) throws IOException {
         try {
             bis.reset();
@@ -140,14 +179,15 @@ private static BufferedReader reset(ReaderSupplier readerSupplier, BufferedReade
 
     private PluginDescriptor build(String source, String nsUri, XMLStreamReader xsr)
             throws XMLStreamException, PlexusConfigurationException {
+        return build(read(nsUri, xsr), source);
+    }
+
+    private Serializable read(String nsUri, XMLStreamReader xsr) throws XMLStreamException {
         if (PLUGIN_2_0_0.equals(nsUri)) {
-            org.apache.maven.api.plugin.descriptor.PluginDescriptor pd =
-                    new PluginDescriptorStaxReader().read(xsr, true);
-            return new PluginDescriptor(pd);
+            return new PluginDescriptorStaxReader().read(xsr, true);
         } else {
-            XmlNode node = XmlNodeStaxBuilder.build(xsr, true, null);
-            PlexusConfiguration cfg = XmlPlexusConfiguration.toPlexusConfiguration(node);
-            return build(source, cfg);
+            // the nodes built from a stream are serializable
+            return (Serializable) XmlNodeStaxBuilder.build(xsr, true, null);
         }
     }
 
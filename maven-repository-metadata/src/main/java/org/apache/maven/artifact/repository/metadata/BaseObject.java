@@ -18,11 +18,25 @@
  */
 package org.apache.maven.artifact.repository.metadata;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public abstract class BaseObject implements Serializable, Cloneable {
     protected transient ChildrenTracking childrenTracking;
 
+    protected transient EditSession editSession;
+
+    private transient Map<String, PendingEdit<?>> pendingEdits;
+
     protected Object delegate;
 
     public BaseObject() {}
@@ -30,6 +44,7 @@ public BaseObject() {}
     public BaseObject(Object delegate, BaseObject parent) {
         this.delegate = delegate;
         this.childrenTracking = parent != null ? parent::replace : null;
+        this.editSession = parent != null ? parent.activeEditSession() : null;
     }
 
     public BaseObject(Object delegate, ChildrenTracking parent) {
@@ -38,6 +53,13 @@ public BaseObject(Object delegate, ChildrenTracking parent) {
     }
 
     public Object getDelegate() {
+        if (editSession != null) {
+            if (editSession.closed) {
+                editSession = null;
+            } else {
+                editSession.flush();
+            }
+        }
         return delegate;
     }
 
@@ -50,12 +72,168 @@ public void update(Object newDelegate) {
         }
     }
 
+    /**
+     * Starts an edit session on this object. Until the session is committed or closed, lists and
+     * properties modified through this object, or through the objects subsequently obtained from it,
+     * are buffered instead of rebuilding the immutable delegates on each modification. Pending
+     * modifications are written back when the session is committed, closed, or when any object
+     * taking part in the session is read. If a session is already active on this object, it is
+     * joined and will only be closed once all its callers have closed it.
+     *
+     * @return the edit session, to be closed once modifications are done
+     */
+    public EditSession beginEdit() {
+        EditSession session = activeEditSession();
+        if (session == null) {
+            session = new EditSession();
+            editSession = session;
+        } else {
+            session.depth++;
+        }
+        return session;
+    }
+
     protected boolean replace(Object oldDelegate, Object newDelegate) {
+        if (pendingEdits != null) {
+            for (PendingEdit<?> pending : pendingEdits.values()) {
+                if (pending.replace(oldDelegate, newDelegate)) {
+                    return true;
+                }
+            }
+        }
         return false;
     }
 
+    /**
+     * Returns the buffer of the given list field if an edit session is active, or {@code null} otherwise.
+     * The buffer is initialized from the getter, which must not trigger a flush, and written back using
+     * the setter when the session is flushed.
+     */
+    protected <U> List<U> editList(String field, Supplier<List<U>> getter, Consumer<List<U>> setter) {
+        return edit(field, () -> new ArrayList<>(getter.get()), setter);
+    }
+
+    /**
+     * Returns the buffer of the given properties field if an edit session is active, or {@code null} otherwise.
+     */
+    protected Properties editProperties(
+            String field, Supplier<Map<String, String>> getter, Consumer<Properties> setter) {
+        Supplier<Properties> buffer = () -> {
+            Properties props = new Properties();
+            props.putAll(getter.get());
+            return props;
+        };
+        return edit(field, buffer, setter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <B> B edit(String field, Supplier<B> buffer, Consumer<B> setter) {
+        EditSession session = activeEditSession();
+        if (session == null) {
+            return null;
+        }
+        if (pendingEdits == null) {
+            pendingEdits = new LinkedHashMap<>();
+            session.pending.add(this);
+        }
+        PendingEdit<?> pending = pendingEdits.get(field);
+        if (pending == null) {
+            pending = new PendingEdit<>(buffer.get(), setter);
+            pendingEdits.put(field, pending);
+        }
+        return (B) pending.buffer;
+    }
+
+    private EditSession activeEditSession() {
+        return editSession != null && !editSession.closed ? editSession : null;
+    }
+
+    private void flushPendingEdits() {
+        Map<String, PendingEdit<?>> edits = pendingEdits;
+        pendingEdits = null;
+        if (edits != null) {
+            edits.values().forEach(PendingEdit::commit);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getDelegate();
+        out.defaultWriteObject();
+    }
+
     @FunctionalInterface
     protected interface ChildrenTracking {
         boolean replace(Object oldDelegate, Object newDelegate);
     }
+
+    /**
+     * A set of buffered modifications on a tree of objects.
+     *
+     * @see #beginEdit()
+     */
+    public static final class EditSession implements AutoCloseable {
+        private final List<BaseObject> pending = new ArrayList<>();
+        private int depth = 1;
+        private boolean closed;
+
+        private EditSession() {}
+
+        /**
+         * Writes the pending modifications back to the objects taking part in this session.
+         * The session stays active.
+         */
+        public void commit() {
+            while (!pending.isEmpty()) {
+                List<BaseObject> objects = new ArrayList<>(pending);
+                pending.clear();
+                objects.forEach(BaseObject::flushPendingEdits);
+            }
+        }
+
+        /**
+         * Commits the pending modifications and ends this session, unless it is still used by an outer caller.
+         */
+        @Override
+        public void close() {
+            if (!closed && --depth == 0) {
+                commit();
+                closed = true;
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                commit();
+            }
+        }
+    }
+
+    private static final class PendingEdit<B> {
+        final B buffer;
+        final Consumer<B> setter;
+
+        PendingEdit(B buffer, Consumer<B> setter) {
+            this.buffer = buffer;
+            this.setter = setter;
+        }
+
+        void commit() {
+            setter.accept(buffer);
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean replace(Object oldDelegate, Object newDelegate) {
+            boolean replaced = false;
+            if (buffer instanceof List) {
+                ListIterator<Object> it = ((List<Object>) buffer).listIterator();
+                while (it.hasNext()) {
+                    if (it.next() == oldDelegate) {
+                        it.set(newDelegate);
+                        replaced = true;
+                    }
+                }
+            }
+            return replaced;
+        }
+    }
 }
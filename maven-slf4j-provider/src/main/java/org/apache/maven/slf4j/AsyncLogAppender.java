@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.PrintStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Writes the log messages from a dedicated thread, so that the logging threads do not wait for the console.
+ * <p>
+ * The messages are queued in a bounded lock-free ring buffer, and written in batches by a single writer thread
+ * which flushes the stream once per batch. The stack traces are rendered by the writer thread too. What happens
+ * when the buffer is full is decided by the {@link OverflowPolicy}. Error messages are only returned from once they
+ * have been written, and the buffer is drained when the appender is closed, including on JVM shutdown.
+ *
+ * @since 4.0.0
+ */
+final class AsyncLogAppender implements AutoCloseable {
+
+    /**
+     * What to do with a message when the buffer is full.
+     */
+    enum OverflowPolicy {
+        /**
+         * Wait for the writer thread to make room for the message.
+         */
+        BLOCK,
+        /**
+         * Drop debug and trace messages, and wait for the writer thread for the others.
+         */
+        DROP_DEBUG,
+        /**
+         * Queue the message in memory without bound, until the writer thread catches up.
+         */
+        SPILL
+    }
+
+    private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final String EOL = System.lineSeparator();
+
+    /**
+     * The number of characters above which the batch is written to the stream before adding more messages to it.
+     */
+    private static final int MAX_BATCH_LENGTH = 64 * 1024;
+
+    private record Event(MavenSimpleLogger logger, String message, Throwable throwable) {}
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Supplier<PrintStream> stream;
+
+    private final Object lock;
+
+    /**
+     * The ring buffer. The sequence of a slot tells whether it can be filled by the producer claiming the position
+     * equal to it, or consumed by the writer at the position preceding it.
+     */
+    private final AtomicReferenceArray<Event> events;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to be consumed, only updated by the writer thread.
+     */
+    private long head;
+
+    /**
+     * The messages which did not fit in the buffer, when spilling.
+     */
+    private final Queue<Event> overflow = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of messages added to the overflow and not written yet. The producers do not use the buffer as long
+     * as it is not zero, so that a message is never written before a message spilled by the same thread, even when
+     * the writer thread already took that message out of the overflow.
+     */
+    private final AtomicLong spilled = new AtomicLong();
+
+    /**
+     * The messages to write to the stream at once, guarded by the lock.
+     */
+    private final StringBuilder batch = new StringBuilder();
+
+    private final AtomicLong appended = new AtomicLong();
+
+    private volatile long written;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread writer;
+
+    private final Thread shutdownHook;
+
+    private volatile boolean sleeping;
+
+    private volatile boolean closed;
+
+    AsyncLogAppender(int capacity, OverflowPolicy overflowPolicy, Supplier<PrintStream> stream, Object lock) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.overflowPolicy = overflowPolicy;
+        this.stream = stream;
+        this.lock = lock;
+        this.events = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.writer = new Thread(this::run, "maven-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::close, "maven-log-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queues a message, which is written once the messages queued before are.
+     *
+     * @param logger the logger rendering the stack trace
+     * @param message the formatted message
+     * @param throwable the throwable to write after the message, may be {@code null}
+     * @param level the level of the message
+     */
+    void append(MavenSimpleLogger logger, String message, Throwable throwable, int level) {
+        Event event = new Event(logger, message, throwable);
+        if (closed) {
+            PrintStream out = stream.get();
+            synchronized (lock) {
+                write(event, out);
+                printBatch(out);
+                out.flush();
+            }
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            // keep the messages of a thread in order while the overflow is being drained
+            if (spilled.get() > 0 || !offer(event)) {
+                spilled.incrementAndGet();
+                overflow.add(event);
+            }
+        } else {
+            while (!offer(event)) {
+                if (overflowPolicy == OverflowPolicy.DROP_DEBUG && level <= LocationAwareLogger.DEBUG_INT) {
+                    dropped.increment();
+                    return;
+                }
+                if (closed) {
+                    append(logger, message, throwable, level);
+                    return;
+                }
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+        }
+        appended.incrementAndGet();
+        if (closed) {
+            drainClosed();
+        } else if (sleeping) {
+            LockSupport.unpark(writer);
+        }
+        if (level >= LocationAwareLogger.ERROR_INT) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the messages queued while the writer thread was stopping.
+     */
+    private void drainClosed() {
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        writeBatch();
+    }
+
+    private boolean offer(Event event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.set(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+    }
+
+    private Event poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        Event event = events.get(index);
+        events.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return event;
+    }
+
+    /**
+     * Waits until the messages queued so far have been written.
+     */
+    void flush() {
+        long target = appended.get();
+        while (written < target && writer.isAlive() && Thread.currentThread() != writer) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Writes the queued messages and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        if (Thread.currentThread() != writer) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // the JVM is shutting down
+            }
+        }
+    }
+
+    private void run() {
+        while (true) {
+            if (!writeBatch()) {
+                if (closed) {
+                    // messages appended concurrently with the closing are written by the next batch
+                    if (!writeBatch()) {
+                        return;
+                    }
+                    continue;
+                }
+                sleeping = true;
+                if (isEmpty()) {
+                    LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1 && overflow.isEmpty();
+    }
+
+    /**
+     * Writes the messages queued in the buffer, then the overflow, and flushes the stream.
+     */
+    private boolean writeBatch() {
+        long count = 0;
+        PrintStream out = stream.get();
+        synchronized (lock) {
+            long lost = dropped.sumThenReset();
+            if (lost > 0) {
+                batch.append(lost)
+                        .append(" debug messages dropped, the log buffer was full")
+                        .append(EOL);
+            }
+            for (Event event = poll(); event != null; event = poll()) {
+                write(event, out);
+                count++;
+            }
+            for (Event event = overflow.poll(); event != null; event = overflow.poll()) {
+                // the messages queued in the buffer by the same thread were claimed before this one was spilled
+                for (long claimed = tail.get(); head < claimed; ) {
+                    Event queued = poll();
+                    if (queued == null) {
+                        // claimed but not published yet
+                        Thread.onSpinWait();
+                    } else {
+                        write(queued, out);
+                        count++;
+                    }
+                }
+                write(event, out);
+                spilled.decrementAndGet();
+                count++;
+            }
+            printBatch(out);
+            if (count > 0) {
+                out.flush();
+            }
+        }
+        if (count > 0) {
+            written += count;
+        }
+        return count > 0;
+    }
+
+    /**
+     * Adds a message to the batch, which is written to the stream at once, unless it is too large or a stack trace
+     * has to be written after the message.
+     */
+    private void write(Event event, PrintStream out) {
+        batch.append(event.message()).append(EOL);
+        if (event.throwable() != null || batch.length() >= MAX_BATCH_LENGTH) {
+            printBatch(out);
+        }
+        if (event.throwable() != null) {
+            try {
+                event.logger().writeThrowable(event.throwable(), out);
+            } catch (RuntimeException e) {
+                // a failure to render a stack trace must not stop the writer
+            }
+        }
+    }
+
+    private void printBatch(PrintStream out) {
+        if (batch.length() > 0) {
+            out.print(batch);
+            batch.setLength(0);
+        }
+    }
+}
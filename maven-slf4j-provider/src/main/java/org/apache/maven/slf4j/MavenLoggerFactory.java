@@ -31,7 +31,9 @@
 public class MavenLoggerFactory extends SimpleLoggerFactory implements MavenSlf4jWrapperFactory {
     private LogLevelRecorder logLevelRecorder = null;
 
-    public MavenLoggerFactory() {}
+    public MavenLoggerFactory() {
+        MavenSimpleLogger.configureAsyncLogAppender();
+    }
 
     @Override
     public void setLogLevelRecorder(LogLevelRecorder logLevelRecorder) {
@@ -47,6 +49,12 @@ public Optional<LogLevelRecorder> getLogLevelRecorder() {
         return Optional.ofNullable(logLevelRecorder);
     }
 
+    @Override
+    protected void reset() {
+        super.reset();
+        MavenSimpleLogger.configureAsyncLogAppender();
+    }
+
     protected Logger createLogger(String name) {
         if (logLevelRecorder == null) {
             return new MavenSimpleLogger(name);
@@ -19,9 +19,13 @@
 package org.apache.maven.slf4j;
 
 import java.io.PrintStream;
+import java.util.Locale;
 import java.util.function.Consumer;
 
 import org.apache.maven.api.services.MessageBuilder;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
 import org.slf4j.simple.ExtSimpleLogger;
 
 import static org.apache.maven.jline.MessageUtils.builder;
@@ -34,6 +38,38 @@
  */
 public class MavenSimpleLogger extends ExtSimpleLogger {
 
+    /**
+     * Whether the messages are written asynchronously, from a dedicated thread. Defaults to {@code false}.
+     *
+     * @since 4.0.0
+     */
+    public static final String ASYNC_KEY = SYSTEM_PREFIX + "async";
+
+    /**
+     * The number of messages which can be queued when they are written asynchronously. Defaults to {@code 8192}.
+     *
+     * @since 4.0.0
+     */
+    public static final String ASYNC_BUFFER_SIZE_KEY = SYSTEM_PREFIX + "async.bufferSize";
+
+    /**
+     * What to do with a message when the asynchronous buffer is full: {@code block} until there is room,
+     * {@code drop_debug} to drop the debug and trace messages, or {@code spill} to queue them in memory without
+     * bound. Defaults to {@code block}.
+     *
+     * @since 4.0.0
+     */
+    public static final String ASYNC_OVERFLOW_POLICY_KEY = SYSTEM_PREFIX + "async.overflowPolicy";
+
+    private static final int DEFAULT_ASYNC_BUFFER_SIZE = 8192;
+
+    /**
+     * The level of the message being written by the current thread, when writing asynchronously.
+     */
+    private static final ThreadLocal<Level> LEVEL = new ThreadLocal<>();
+
+    private static volatile AsyncLogAppender asyncLogAppender;
+
     private String traceRenderedLevel;
     private String debugRenderedLevel;
     private String infoRenderedLevel;
@@ -43,9 +79,45 @@ public class MavenSimpleLogger extends ExtSimpleLogger {
     static Consumer<String> logSink;
 
     public static void setLogSink(Consumer<String> logSink) {
+        AsyncLogAppender appender = asyncLogAppender;
+        if (appender != null) {
+            // the messages queued before must not be written after the ones given to the sink
+            appender.flush();
+        }
         MavenSimpleLogger.logSink = logSink;
     }
 
+    /**
+     * Starts or stops writing the messages asynchronously, according to the configuration. The messages queued
+     * by a previous configuration are written before.
+     */
+    static synchronized void configureAsyncLogAppender() {
+        AsyncLogAppender previous = asyncLogAppender;
+        asyncLogAppender = null;
+        if (previous != null) {
+            previous.close();
+        }
+        if (Boolean.parseBoolean(getConfigurationProperty(ASYNC_KEY, "false"))) {
+            int bufferSize = DEFAULT_ASYNC_BUFFER_SIZE;
+            try {
+                bufferSize = Integer.parseInt(
+                        getConfigurationProperty(ASYNC_BUFFER_SIZE_KEY, String.valueOf(DEFAULT_ASYNC_BUFFER_SIZE)));
+            } catch (NumberFormatException e) {
+                // keep the default
+            }
+            AsyncLogAppender.OverflowPolicy overflowPolicy = AsyncLogAppender.OverflowPolicy.BLOCK;
+            try {
+                overflowPolicy = AsyncLogAppender.OverflowPolicy.valueOf(
+                        getConfigurationProperty(ASYNC_OVERFLOW_POLICY_KEY, "block")
+                                .toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                // keep the default
+            }
+            asyncLogAppender = new AsyncLogAppender(
+                    bufferSize, overflowPolicy, ExtSimpleLogger::getTargetPrintStream, getWriteLock());
+        }
+    }
+
     MavenSimpleLogger(String name) {
         super(name);
     }
@@ -74,11 +146,44 @@ protected String renderLevel(int level) {
         }
     }
 
+    @Override
+    protected void handleNormalizedLoggingCall(
+            Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+        if (asyncLogAppender != null) {
+            LEVEL.set(level);
+            try {
+                super.handleNormalizedLoggingCall(level, marker, messagePattern, arguments, throwable);
+            } finally {
+                LEVEL.remove();
+            }
+        } else {
+            super.handleNormalizedLoggingCall(level, marker, messagePattern, arguments, throwable);
+        }
+    }
+
+    @Override
+    public void log(LoggingEvent event) {
+        if (asyncLogAppender != null) {
+            LEVEL.set(event.getLevel());
+            try {
+                super.log(event);
+            } finally {
+                LEVEL.remove();
+            }
+        } else {
+            super.log(event);
+        }
+    }
+
     @Override
     protected void doWrite(StringBuilder buf, Throwable t) {
         Consumer<String> sink = logSink;
+        AsyncLogAppender appender = asyncLogAppender;
         if (sink != null) {
             sink.accept(buf.toString());
+        } else if (appender != null) {
+            Level level = LEVEL.get();
+            appender.append(this, buf.toString(), t, level != null ? level.toInt() : LOG_LEVEL_INFO);
         } else {
             super.doWrite(buf, t);
         }
@@ -18,9 +18,11 @@
  */
 package org.slf4j.simple;
 
+import java.io.PrintStream;
+
 /**
  * Class inheriting SimpleLogger to work around the fact that the {@link #write(StringBuilder, Throwable)}
- * method is package private.
+ * method and the configuration are package private.
  */
 public class ExtSimpleLogger extends SimpleLogger {
 
@@ -36,4 +38,26 @@ void write(StringBuilder buf, Throwable t) {
     protected void doWrite(StringBuilder buf, Throwable t) {
         super.write(buf, t);
     }
+
+    /**
+     * Returns the value of a configuration property, from the system properties or the
+     * {@code simplelogger.properties} file.
+     */
+    protected static String getConfigurationProperty(String name, String defaultValue) {
+        return CONFIG_PARAMS.getStringProperty(name, defaultValue);
+    }
+
+    /**
+     * Returns the stream the messages are written to.
+     */
+    protected static PrintStream getTargetPrintStream() {
+        return CONFIG_PARAMS.outputChoice.getTargetPrintStream();
+    }
+
+    /**
+     * Returns the lock held while a message and its stack trace are written, so that they are not intermingled.
+     */
+    protected static Object getWriteLock() {
+        return CONFIG_PARAMS;
+    }
 }
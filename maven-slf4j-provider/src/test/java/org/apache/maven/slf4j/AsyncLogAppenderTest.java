@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.spi.LocationAwareLogger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLogAppenderTest {
+
+    private static final int THREADS = 8;
+
+    private static final int MESSAGES = 2000;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private final PrintStream stream = new PrintStream(output, false, UTF_8);
+
+    private final MavenSimpleLogger logger = new MavenSimpleLogger("logger");
+
+    @Test
+    void testMessagesOfEachThreadAreWrittenInOrder() throws Exception {
+        for (AsyncLogAppender.OverflowPolicy policy : AsyncLogAppender.OverflowPolicy.values()) {
+            output.reset();
+            try (AsyncLogAppender appender = new AsyncLogAppender(16, policy, () -> stream, stream)) {
+                appendConcurrently(appender, LocationAwareLogger.INFO_INT);
+            }
+
+            List<String> lines = lines();
+            assertEquals(THREADS * MESSAGES, lines.size(), policy.name());
+            int[] next = new int[THREADS];
+            for (String line : lines) {
+                String[] parts = line.split(" ");
+                int thread = Integer.parseInt(parts[0]);
+                assertEquals(next[thread]++, Integer.parseInt(parts[1]), policy.name());
+            }
+        }
+    }
+
+    @Test
+    void testDebugMessagesAreDroppedWhenTheBufferIsFull() throws Exception {
+        Object lock = new Object();
+        List<String> lines;
+        try (AsyncLogAppender appender =
+                new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.DROP_DEBUG, () -> stream, lock)) {
+            // keep the writer thread from draining the buffer
+            synchronized (lock) {
+                for (int i = 0; i < 100; i++) {
+                    appender.append(logger, "debug " + i, null, LocationAwareLogger.DEBUG_INT);
+                }
+            }
+            appender.append(logger, "error", null, LocationAwareLogger.ERROR_INT);
+            // errors are written before returning
+            lines = lines();
+        }
+
+        assertEquals("error", lines.get(lines.size() - 1));
+        assertTrue(lines.contains("96 debug messages dropped, the log buffer was full"), lines.toString());
+    }
+
+    @Test
+    void testMessagesAreWrittenAfterClosing() {
+        AsyncLogAppender appender =
+                new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.SPILL, () -> stream, stream);
+        synchronized (stream) {
+            for (int i = 0; i < 100; i++) {
+                appender.append(logger, "spilled " + i, null, LocationAwareLogger.DEBUG_INT);
+            }
+        }
+        appender.close();
+        appender.append(logger, "closed", null, LocationAwareLogger.INFO_INT);
+
+        List<String> lines = lines();
+        assertEquals(101, lines.size());
+        assertEquals("spilled 99", lines.get(99));
+        assertEquals("closed", lines.get(100));
+    }
+
+    @Test
+    void testSpilledMessagesAreWrittenBeforeTheNextMessagesOfTheThread() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        MavenSimpleLogger blocking = new MavenSimpleLogger("blocking") {
+            @Override
+            protected void writeThrowable(Throwable t, PrintStream stream) {
+                writing.countDown();
+                try {
+                    resume.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        try (AsyncLogAppender appender =
+                new AsyncLogAppender(4, AsyncLogAppender.OverflowPolicy.SPILL, () -> stream, stream)) {
+            synchronized (stream) {
+                for (int i = 0; i < 4; i++) {
+                    appender.append(logger, "queued " + i, null, LocationAwareLogger.INFO_INT);
+                }
+                appender.append(blocking, "spilled", new Exception(), LocationAwareLogger.INFO_INT);
+            }
+            // the writer thread took the spilled message out of the overflow, which is empty now
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 8; i++) {
+                appender.append(logger, "next " + i, null, LocationAwareLogger.INFO_INT);
+            }
+            resume.countDown();
+        }
+
+        List<String> lines = lines();
+        assertEquals(13, lines.size(), lines.toString());
+        assertEquals("spilled", lines.get(4));
+        assertEquals("next 0", lines.get(5));
+        assertEquals("next 7", lines.get(12));
+    }
+
+    private void appendConcurrently(AsyncLogAppender appender, int level) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < MESSAGES; i++) {
+                    appender.append(logger, thread + " " + i, null, level);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private List<String> lines() {
+        stream.flush();
+        String text = output.toString(UTF_8);
+        return text.isEmpty() ? List.of() : Arrays.asList(text.split(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+
+/**
+ * Logs debug messages to a file from 32 threads, as a {@code mvn -T 32 -X} build does, with and without writing
+ * them asynchronously.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(32)
+public class MavenSimpleLoggerPerfTest {
+
+    @State(Scope.Benchmark)
+    public static class LoggerState {
+        @Param({"false", "true"})
+        String async;
+
+        File logFile;
+
+        Logger logger;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            logFile = File.createTempFile("maven-log", ".txt");
+            System.setProperty(MavenSimpleLogger.LOG_FILE_KEY, logFile.getAbsolutePath());
+            System.setProperty(MavenSimpleLogger.DEFAULT_LOG_LEVEL_KEY, "debug");
+            System.setProperty(MavenSimpleLogger.ASYNC_KEY, async);
+            logger = new MavenLoggerFactory().getLogger(MavenSimpleLoggerPerfTest.class.getName());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            System.clearProperty(MavenSimpleLogger.ASYNC_KEY);
+            MavenSimpleLogger.configureAsyncLogAppender();
+            logFile.delete();
+        }
+    }
+
+    @Benchmark
+    public void debug(LoggerState state) {
+        state.logger.debug("Resolving artifact {} from {}", "org.example:module:jar:1.0", "central");
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(MavenSimpleLoggerPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
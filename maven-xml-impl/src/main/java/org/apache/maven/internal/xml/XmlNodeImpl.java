@@ -22,6 +22,7 @@
 
 import java.io.Serializable;
 import java.io.StringWriter;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -57,6 +58,20 @@ public class XmlNodeImpl implements Serializable, XmlNode {
 
     protected final Object location;
 
+    /**
+     * The structural hash code of this node, computed when first needed.
+     */
+    private transient int hash;
+
+    /**
+     * The last merge of this node, as the dominant one, with a recessive node. Nodes are immutable, so merging
+     * the same nodes always gives the same result. This happens a lot when the configuration of a parent or of
+     * the plugin management is merged into the configuration of each module and each execution, as the models
+     * share the inherited nodes. The result is only kept as long as this node is, and does not keep the recessive
+     * node alive.
+     */
+    private transient volatile LastMerge lastMerge;
+
     public XmlNodeImpl(String name) {
         this(name, null, null, null, null);
     }
@@ -212,8 +227,31 @@ public Object getInputLocation() {
      *   </ol></li>
      * </ol>
      */
-    @SuppressWarnings("checkstyle:MethodLength")
     public static XmlNode merge(XmlNode dominant, XmlNode recessive, Boolean childMergeOverride) {
+        if (recessive == null) {
+            return dominant;
+        }
+        if (dominant == null) {
+            return recessive;
+        }
+        if (!(dominant instanceof XmlNodeImpl) || !(recessive instanceof XmlNodeImpl)) {
+            // other implementations are not known to be immutable
+            return doMerge(dominant, recessive, childMergeOverride);
+        }
+        XmlNodeImpl node = (XmlNodeImpl) dominant;
+        LastMerge last = node.lastMerge;
+        if (last != null
+                && last.recessive.get() == recessive
+                && Objects.equals(last.childMergeOverride, childMergeOverride)) {
+            return last.result;
+        }
+        XmlNode result = doMerge(dominant, recessive, childMergeOverride);
+        node.lastMerge = new LastMerge(new WeakReference<>(recessive), childMergeOverride, result);
+        return result;
+    }
+
+    @SuppressWarnings("checkstyle:MethodLength")
+    private static XmlNode doMerge(XmlNode dominant, XmlNode recessive, Boolean childMergeOverride) {
         // TODO: share this as some sort of assembler, implement a walk interface?
         if (recessive == null) {
             return dominant;
@@ -332,7 +370,7 @@ public static XmlNode merge(XmlNode dominant, XmlNode recessive, Boolean childMe
                                 children.remove(dominantChild);
                             } else {
                                 int idx = dominant.getChildren().indexOf(dominantChild);
-                                XmlNode merged = merge(dominantChild, recessiveChild, childMergeOverride);
+                                XmlNode merged = doMerge(dominantChild, recessiveChild, childMergeOverride);
                                 if (merged != dominantChild) {
                                     if (children == null) {
                                         children = new ArrayList<>(dominant.getChildren());
@@ -398,6 +436,9 @@ public boolean equals(Object o) {
             return false;
         }
         XmlNodeImpl that = (XmlNodeImpl) o;
+        if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) {
+            return false;
+        }
         return Objects.equals(this.name, that.name)
                 && Objects.equals(this.value, that.value)
                 && Objects.equals(this.attributes, that.attributes)
@@ -406,7 +447,12 @@ public boolean equals(Object o) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, value, attributes, children);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, value, attributes, children);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -454,4 +500,9 @@ private static <T> boolean addToStringField(StringBuilder sb, T o, Function<T, B
     private static boolean isEmpty(String str) {
         return str == null || str.isEmpty();
     }
+
+    /**
+     * A merge result, with the recessive node it was computed from, compared by identity.
+     */
+    private record LastMerge(WeakReference<XmlNode> recessive, Boolean childMergeOverride, XmlNode result) {}
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.xml.XmlNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Merges surefire and compiler like configurations of a parent, with more than 100 children each, into the
+ * configurations of the executions of 200 modules. The inherited configurations are either shared by the modules,
+ * as in the models built for a reactor, or copied for each module, so that no merge can be reused.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class XmlNodeImplPerfTest {
+
+    static final int MODULES = 200;
+
+    static final int EXECUTIONS = 3;
+
+    @State(Scope.Benchmark)
+    public static class ReactorState {
+        List<XmlNode> parentConfigurations;
+
+        List<List<XmlNode>> executionConfigurations;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            parentConfigurations = List.of(surefire(), compiler());
+            executionConfigurations = new ArrayList<>(MODULES);
+            for (int m = 0; m < MODULES; m++) {
+                List<XmlNode> executions = new ArrayList<>(EXECUTIONS);
+                for (int e = 0; e < EXECUTIONS; e++) {
+                    executions.add(
+                            e == 0
+                                    ? null
+                                    : node(
+                                            "configuration",
+                                            node("skip", "false"),
+                                            node("excludes", node("exclude", "**/Module" + m + "IT.java"))));
+                }
+                executionConfigurations.add(executions);
+            }
+        }
+
+        private static XmlNode surefire() {
+            List<XmlNode> children = new ArrayList<>();
+            children.add(node("forkCount", "1C"));
+            children.add(node("reuseForks", "true"));
+            List<XmlNode> properties = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                properties.add(node("property", node("name", "prop" + i), node("value", "value" + i)));
+            }
+            children.add(new XmlNodeImpl("systemProperties", null, null, properties, null));
+            List<XmlNode> includes = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                includes.add(node("include", "**/*Test" + i + ".java"));
+            }
+            children.add(new XmlNodeImpl("includes", null, null, includes, null));
+            children.add(node("excludes", node("exclude", "**/*IT.java")));
+            return new XmlNodeImpl("configuration", null, null, children, null);
+        }
+
+        private static XmlNode compiler() {
+            List<XmlNode> children = new ArrayList<>();
+            children.add(node("release", "17"));
+            List<XmlNode> args = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                args.add(node("arg", "-Xlint:option" + i));
+            }
+            children.add(new XmlNodeImpl("compilerArgs", null, Map.of("combine.children", "append"), args, null));
+            List<XmlNode> paths = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                paths.add(node(
+                        "path",
+                        node("groupId", "org.example"),
+                        node("artifactId", "processor" + i),
+                        node("version", "1." + i)));
+            }
+            children.add(new XmlNodeImpl("annotationProcessorPaths", null, null, paths, null));
+            return new XmlNodeImpl("configuration", null, null, children, null);
+        }
+
+        private static XmlNode node(String name, String value) {
+            return new XmlNodeImpl(name, value);
+        }
+
+        private static XmlNode node(String name, XmlNode... children) {
+            return new XmlNodeImpl(name, null, null, List.of(children), null);
+        }
+    }
+
+    /**
+     * Copies the inherited configurations for each module before each invocation. The copies only differ by
+     * their identity, which is enough to prevent the reuse of previous merges.
+     */
+    @State(Scope.Benchmark)
+    public static class CopiedState {
+        List<List<XmlNode>> parentConfigurations;
+
+        @Setup(Level.Invocation)
+        public void setUp(ReactorState reactor) {
+            parentConfigurations = new ArrayList<>(MODULES);
+            for (int m = 0; m < MODULES; m++) {
+                List<XmlNode> copies = new ArrayList<>();
+                for (XmlNode parent : reactor.parentConfigurations) {
+                    copies.add(new XmlNodeImpl(parent, parent.getName()));
+                }
+                parentConfigurations.add(copies);
+            }
+        }
+    }
+
+    @Benchmark
+    public void mergeSharedConfigurations(ReactorState state, Blackhole blackhole) {
+        for (int m = 0; m < MODULES; m++) {
+            merge(state.parentConfigurations, state.executionConfigurations.get(m), blackhole);
+        }
+    }
+
+    @Benchmark
+    public void mergeCopiedConfigurations(ReactorState state, CopiedState copies, Blackhole blackhole) {
+        for (int m = 0; m < MODULES; m++) {
+            merge(copies.parentConfigurations.get(m), state.executionConfigurations.get(m), blackhole);
+        }
+    }
+
+    private static void merge(List<XmlNode> parents, List<XmlNode> executions, Blackhole blackhole) {
+        for (XmlNode parent : parents) {
+            for (XmlNode execution : executions) {
+                blackhole.consume(XmlNode.merge(execution, parent));
+            }
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(XmlNodeImplPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
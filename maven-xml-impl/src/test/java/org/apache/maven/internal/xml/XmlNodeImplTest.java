@@ -40,6 +40,7 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class XmlNodeImplTest {
 
@@ -461,6 +462,31 @@ void testEqualsIsNullSafe() throws XMLStreamException, IOException {
         assertNotEquals(dom2, dom);
     }
 
+    @Test
+    void testMergeOfSameNodesIsReused() throws XMLStreamException, IOException {
+        XmlNode parentConfig = toXmlNode(
+                "<configuration><items><item>one</item></items><skip>true</skip></configuration>",
+                new FixedInputLocationBuilder("parent"));
+        XmlNode childConfig = toXmlNode(
+                "<configuration><items><item>two</item></items></configuration>",
+                new FixedInputLocationBuilder("child"));
+        XmlNode sameChildConfig = toXmlNode(
+                "<configuration><items><item>two</item></items></configuration>",
+                new FixedInputLocationBuilder("other"));
+
+        XmlNode result = XmlNode.merge(childConfig, parentConfig);
+        assertSame(result, XmlNode.merge(childConfig, parentConfig));
+        assertEquals("two", result.getChild("items").getChild("item").getValue());
+        assertEquals("true", result.getChild("skip").getValue());
+
+        // equal nodes from another source are merged again, as the result holds their locations
+        XmlNode other = XmlNode.merge(sameChildConfig, parentConfig);
+        assertNotSame(result, other);
+        assertEquals(result, other);
+        assertEquals("other", other.getChild("items").getInputLocation());
+        assertNotEquals(result, XmlNode.merge(childConfig, parentConfig, Boolean.FALSE));
+    }
+
     /**
      * <p>testShouldOverwritePluginConfigurationSubItemsByDefault.</p>
      */
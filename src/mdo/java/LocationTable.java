@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ${package};
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact storage of the locations of model objects.
+ * <p>
+ * The keys of the locations of a class are stored once in a static array, and each object
+ * only holds an array of locations indexed like the keys of its class, or {@code null} if it
+ * has no location at all. Objects derived from another object of the same class share its
+ * locations array when no location is modified.
+ */
+final class LocationTable {
+
+    private LocationTable() {}
+
+    /**
+     * Creates the locations array of a new object.
+     *
+     * @param keys the location keys of the class of the new object
+     * @param locations the locations explicitly set on the builder, or {@code null}
+     * @param baseKeys the location keys of the class of the base object, or {@code null}
+     * @param baseTable the locations array of the base object, or {@code null}
+     * @return the locations array, or {@code null} if there is no location
+     */
+    static InputLocation[] of(
+            Object[] keys, Map<Object, InputLocation> locations, Object[] baseKeys, InputLocation[] baseTable) {
+        if ((locations == null || locations.isEmpty()) && (baseTable == null || keys == baseKeys)) {
+            return baseTable;
+        }
+        InputLocation[] table = null;
+        for (int i = 0; i < keys.length; i++) {
+            Object key = keys[i];
+            InputLocation location;
+            if (locations != null && locations.containsKey(key)) {
+                location = locations.get(key);
+            } else if (baseTable == null) {
+                location = null;
+            } else if (keys == baseKeys) {
+                location = baseTable[i];
+            } else {
+                location = get(baseKeys, baseTable, key);
+            }
+            if (location != null) {
+                if (table == null) {
+                    table = new InputLocation[keys.length];
+                }
+                table[i] = location;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Gets the location of the given key.
+     */
+    static InputLocation get(Object[] keys, InputLocation[] table, Object key) {
+        if (table != null) {
+            // keys are usually string constants, so look for the same instance first
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return table[i];
+                }
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return table[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the location keys as a set.
+     */
+    static Set<Object> keys(Object[] keys) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(keys)));
+    }
+}
@@ -33,16 +33,34 @@
     private final Consumer<List<U>> setter;
     private final Function<U, T> mapper;
     private final Function<T, U> revMapper;
+    private final Supplier<List<U>> editor;
 
     WrapperList(List<U> list, Function<U, T> mapper, Function<T, U> revMapper) {
         this(() -> list, null, mapper, revMapper);
     }
 
     WrapperList(Supplier<List<U>> getter, Consumer<List<U>> setter, Function<U, T> mapper, Function<T, U> revMapper) {
+        this(getter, setter, mapper, revMapper, null);
+    }
+
+    /**
+     * @param editor supplies the buffer to modify in place while an edit session is active, or {@code null}
+     */
+    WrapperList(
+            Supplier<List<U>> getter,
+            Consumer<List<U>> setter,
+            Function<U, T> mapper,
+            Function<T, U> revMapper,
+            Supplier<List<U>> editor) {
         this.getter = getter;
         this.setter = setter;
         this.mapper = mapper;
         this.revMapper = revMapper;
+        this.editor = editor;
+    }
+
+    private List<U> edited() {
+        return editor != null ? editor.get() : null;
     }
 
     @Override
@@ -58,7 +76,10 @@ public int size() {
     @Override
     public boolean add(T t) {
         Objects.requireNonNull(t);
-        if (setter != null) {
+        List<U> edited = edited();
+        if (edited != null) {
+            return edited.add(revMapper.apply(t));
+        } else if (setter != null) {
             List<U> list = new ArrayList<>(getter.get());
             boolean ret = list.add(revMapper.apply(t));
             setter.accept(list);
@@ -71,7 +92,10 @@ public boolean add(T t) {
     @Override
     public T set(int index, T element) {
         Objects.requireNonNull(element);
-        if (setter != null) {
+        List<U> edited = edited();
+        if (edited != null) {
+            return mapper.apply(edited.set(index, revMapper.apply(element)));
+        } else if (setter != null) {
             List<U> list = new ArrayList<>(getter.get());
             U ret = list.set(index, revMapper.apply(element));
             setter.accept(list);
@@ -84,7 +108,10 @@ public T set(int index, T element) {
     @Override
     public void add(int index, T element) {
         Objects.requireNonNull(element);
-        if (setter != null) {
+        List<U> edited = edited();
+        if (edited != null) {
+            edited.add(index, revMapper.apply(element));
+        } else if (setter != null) {
             List<U> list = new ArrayList<>(getter.get());
             list.add(index, revMapper.apply(element));
             setter.accept(list);
@@ -95,7 +122,10 @@ public void add(int index, T element) {
 
     @Override
     public T remove(int index) {
-        if (setter != null) {
+        List<U> edited = edited();
+        if (edited != null) {
+            return mapper.apply(edited.remove(index));
+        } else if (setter != null) {
             List<U> list = new ArrayList<>(getter.get());
             U ret = list.remove(index);
             setter.accept(list);
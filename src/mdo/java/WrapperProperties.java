@@ -43,10 +43,20 @@ class WrapperProperties extends Properties {
 
     final Supplier<Map<String, String>> getter;
     final Consumer<Properties> setter;
+    final Supplier<Properties> editor;
 
     WrapperProperties(Supplier<Map<String, String>> getter, Consumer<Properties> setter) {
+        this(getter, setter, null);
+    }
+
+    /**
+     * @param editor supplies the buffer to modify in place while an edit session is active, or {@code null}
+     */
+    WrapperProperties(
+            Supplier<Map<String, String>> getter, Consumer<Properties> setter, Supplier<Properties> editor) {
         this.getter = getter;
         this.setter = setter;
+        this.editor = editor;
     }
 
     @Override
@@ -171,6 +181,10 @@ interface WriteOpVoid {
     }
 
     private <T> T writeOperation(WriteOp<T> runner) {
+        Properties edited = editor != null ? editor.get() : null;
+        if (edited != null) {
+            return runner.perform(edited);
+        }
         Properties props = new Properties();
         props.putAll(getter.get());
         T ret = runner.perform(props);
@@ -181,6 +195,11 @@ private <T> T writeOperation(WriteOp<T> runner) {
     }
 
     private void writeOperationVoid(WriteOpVoid runner) {
+        Properties edited = editor != null ? editor.get() : null;
+        if (edited != null) {
+            runner.perform(edited);
+            return;
+        }
         Properties props = new Properties();
         props.putAll(getter.get());
         runner.perform(props);